@@ -0,0 +1,176 @@
+package com.yahoo.dodeleye.tetris;
+
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Used to retrieve scores from the scores storage file, as well as add new ones.
+ *
+ * @version 1.0.2
+ * @since 1.0.0
+ */
+class ScoresFile {
+
+    /**
+     * The name of the folder where the scores file will be stored.
+     */
+    private final String DIRECTORY = "data";
+    /**
+     * The file name of the scores file.
+     */
+    private final String FILE_NAME = "high-scores.json";
+    /**
+     * The path to the scores file.
+     */
+    private final String FILE_PATH = DIRECTORY + "/" + FILE_NAME;
+    /**
+     * A list containing all the scores stored in the file.
+     */
+    private List<Integer> scoresList = new ArrayList<>();
+
+    ScoresFile() {
+
+        /* Retrieve all scores from the file */
+
+        // Attempt to read the high-scores file.
+        try (FileReader reader = new FileReader(FILE_PATH)) {
+
+            // Create new parser for the scores file.
+            JSONParser jsonParser = new JSONParser();
+
+            // Parse the text in the file.
+            Object obj = jsonParser.parse(reader);
+
+            // The parsed text will be in the form of an array.
+            JSONArray objArray = (JSONArray) obj;
+
+            // Iterate over each element of the array.
+            for (Object o : objArray) {
+
+                // Each element will be in the form of a JSONObject.
+                JSONObject scoreObj = (JSONObject) o;
+
+                // Get score data from object.
+                JSONObject scoreData = (JSONObject) scoreObj.get("scoreData");
+
+                // Get the score.
+                Number score = (Number) scoreData.get("score");
+
+                // Add to list.
+                scoresList.add(score.intValue());
+
+            }
+
+        }
+        // If the high-scores file does not exist:
+        catch (IOException | ParseException e) {
+
+            // Create a new high scores file.
+            createNewFile();
+        }
+
+    }
+
+    /**
+     * Creates a new high-scores file if one does not already exist.
+     */
+    private void createNewFile(){
+
+        // Create new directory to store the score.
+        new File(DIRECTORY).mkdir();
+
+        // Attempt to write to high scores file.
+        try(FileWriter writer = new FileWriter(FILE_PATH)){
+
+            // Create a new JSONArray.
+            JSONArray scoresList = new JSONArray();
+
+            // Write it to the file.
+            writer.write(scoresList.toJSONString());
+            writer.flush();
+
+        }
+        catch (IOException e) {
+            e.printStackTrace();
+        }
+
+    }
+
+    /**
+     * Adds new score to the file.
+     * @param score the new score to be added.
+     */
+    void addNewScore(int score) {
+
+        try (FileReader reader = new FileReader(FILE_PATH)) {
+
+            // Create new parser for the scores file.
+            JSONParser jsonParser = new JSONParser();
+
+            // Define an identifier for the score using the size of the scores list.
+            int id = scoresList.size();
+
+            // Parse the text in the file.
+            Object obj = jsonParser.parse(reader);
+
+            // The parsed text will be in the form of an array.
+            JSONArray objArray = (JSONArray) obj;
+
+            // Create new JSONObject holding the scores data.
+            JSONObject scoreData = new JSONObject();
+
+            // Create new JSONObject for the whole entry.
+            JSONObject scoreObject = new JSONObject();
+
+            // Add the ID and the actual score as the scores data.
+            scoreData.put("id", id);
+            scoreData.put("score", score);
+
+            // Assign the scores data to the object entry.
+            scoreObject.put("scoreData", scoreData);
+
+            // Add the entry to the object.
+            objArray.add(scoreObject);
+
+            // Create a writer to the file.
+            FileWriter writer = new FileWriter(FILE_PATH);
+            // Write the updated data to the file.
+            writer.write(objArray.toJSONString());
+            writer.flush();
+
+        }
+        catch (IOException | ParseException e) {
+            e.printStackTrace();
+        }
+
+    }
+
+    /**
+     * Returns the highest score stored in the file
+     * <p>
+     *     0 is returned if there are no stored scores.
+     * </p>
+     * @return the high score of the game. Returns 0 if there are no scores.
+     */
+    int getHighScore() {
+
+        // Return zero if the scores list is empty.
+        if(scoresList.isEmpty())
+            return 0;
+
+        // Otherwise return the highest score in the list.
+        return Collections.max(scoresList);
+    }
+}
+
+
@@ -0,0 +1,178 @@
+package com.yahoo.dodeleye.tetris;
+
+import javax.swing.*;
+import java.awt.*;
+
+import com.yahoo.dodeleye.tetris.controller.MyGameThread;
+import com.yahoo.dodeleye.tetris.model.GameLogic;
+import com.yahoo.dodeleye.tetris.model.Handling;
+import com.yahoo.dodeleye.tetris.model.Ruleset;
+import com.yahoo.dodeleye.tetris.model.SevenBagRandomizer;
+import com.yahoo.dodeleye.tetris.model.SnapshotBuffer;
+import com.yahoo.dodeleye.tetris.view.GameCanvas;
+import com.yahoo.dodeleye.tetris.view.GamePanel;
+
+//getClass().getResource("somefile").getFile()
+
+/**
+ * Represents the top-level window of the program.
+ *
+ * @author daniel
+ * @author dodeleye@yahoo.com
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class Tetris1 extends JFrame {
+
+    /**
+     * The fixed width of the window.
+     */
+    public static final int WIDTH = 400;
+    /**
+     * The fixed height of the window.
+     */
+    public static final int HEIGHT = 500;
+
+    /**
+     * The panel to create a visual image of the game.
+     */
+    private GamePanel gamePanel;
+
+    /**
+     * The canvas the game loop draws the game on in active rendering, or null when Swing paints the game panel.
+     */
+    private GameCanvas gameCanvas;
+
+    public static final Color BG_COLOUR = Color.BLACK;
+
+    /**
+     * The name of the system property setting the number of frames drawn per second, such as 60, 120 or 144.
+     */
+    public static final String RENDER_RATE_PROPERTY = "tetris.renderRate";
+
+    /**
+     * The name of the system property that, when true, has the game loop draw the game itself onto a canvas.
+     */
+    public static final String ACTIVE_RENDERING_PROPERTY = "tetris.activeRendering";
+
+    /**
+     * The name of the system property setting the number of pieces previewed from the Next Queue, from 1 up to
+     * {@link GameLogic#NEXT_QUEUE_LENGTH}.
+     */
+    public static final String PREVIEW_COUNT_PROPERTY = "tetris.previewCount";
+
+    /**
+     * The name of the system property setting the delayed auto-shift, in milliseconds.
+     */
+    public static final String DAS_PROPERTY = "tetris.das";
+
+    /**
+     * The name of the system property setting the auto-repeat rate, in milliseconds. 0 moves a held piece straight
+     * to the wall.
+     */
+    public static final String ARR_PROPERTY = "tetris.arr";
+
+    /**
+     * The name of the system property setting how many times faster a piece falls while soft dropping.
+     */
+    public static final String SOFT_DROP_FACTOR_PROPERTY = "tetris.softDropFactor";
+
+    public static void main(String[] args) {
+
+        // Read the scores stored from previous games.
+        ScoresFile scoresFile = new ScoresFile();
+
+        // Read the player's handling, keeping the standard value of any not given.
+        Handling handling = new Handling(
+                Long.getLong(DAS_PROPERTY, Handling.STANDARD.getDelayedAutoShift() / 1_000_000L) * 1_000_000L,
+                Long.getLong(ARR_PROPERTY, Handling.STANDARD.getAutoRepeatRate() / 1_000_000L) * 1_000_000L,
+                Integer.getInteger(SOFT_DROP_FACTOR_PROPERTY, Handling.STANDARD.getSoftDropFactor()));
+
+        // Create new model instance, with a listener to play its sounds and save its score.
+        GameLogic model = new GameLogic(new TetrisListener(scoresFile), scoresFile.getHighScore(),
+                new SevenBagRandomizer(), Ruleset.STANDARD, handling);
+
+        // Create the buffer passing snapshots of the model from the game thread to the view.
+        SnapshotBuffer snapshots = new SnapshotBuffer(model);
+
+        // Create new frame window.
+        Tetris1 mainFrame = new Tetris1(snapshots, Boolean.getBoolean(ACTIVE_RENDERING_PROPERTY),
+                Integer.getInteger(PREVIEW_COUNT_PROPERTY, 1));
+
+        // Draw at the rate of the display, if one is given.
+        int renderRate = Integer.getInteger(RENDER_RATE_PROPERTY, MyGameThread.DEFAULT_RENDER_RATE);
+
+        // Create a new thread and immediately start it.
+        new Thread(new MyGameThread(model, snapshots, mainFrame, renderRate)).start();
+    }
+
+    /**
+     * Gets the game panel.
+     *
+     * @return the panel for representing the view of the game.
+     */
+    public GamePanel getGamePanel() {
+
+        return gamePanel;
+    }
+
+    /**
+     * Gets the canvas the game is drawn on in active rendering.
+     *
+     * @return the canvas, or null if the game panel is painted by Swing.
+     * @since 1.2.0
+     */
+    public GameCanvas getGameCanvas() {
+
+        return gameCanvas;
+    }
+
+    /**
+     * Initialise the frame.
+     *
+     * @param snapshots       the snapshots of the game to be shown.
+     * @param activeRendering whether the game loop should draw the game itself onto a canvas.
+     * @param previewCount    the number of pieces to preview from the Next Queue.
+     */
+    private Tetris1(SnapshotBuffer snapshots, boolean activeRendering, int previewCount) {
+
+        // Set the title of the frame.
+        setTitle("Tetris1");
+
+        // Change setting such that when the program ends when the exit button is pressed.
+        setDefaultCloseOperation(EXIT_ON_CLOSE);
+
+        // Set the size of the window.
+        setSize(WIDTH, HEIGHT);
+
+        // Set the position of the window to the centre of the screen.
+        setLocationRelativeTo(null);
+
+        // Create an instance of the game panel.
+        gamePanel = new GamePanel(snapshots, previewCount);
+
+        // Either hold the canvas the game loop draws on,
+        if (activeRendering) {
+            gameCanvas = new GameCanvas(snapshots, previewCount);
+            gamePanel.init(gameCanvas);
+        }
+        // or initialise the game panel (necessary?)
+        else
+            gamePanel.init();
+
+        // Add the panel to the frame.
+        add(gamePanel);
+
+        // Lock the size of the frame.
+        setResizable(false);
+
+        // Update the visible state of the frame.
+        setVisible(true);
+
+        // Give the game panel the keyboard focus, as the canvas cannot take it.
+        if (activeRendering)
+            gamePanel.requestFocusInWindow();
+    }
+
+}
+
@@ -0,0 +1,77 @@
+package com.yahoo.dodeleye.tetris;
+
+import com.yahoo.dodeleye.GameAudio;
+import com.yahoo.dodeleye.tetris.model.GameListener;
+
+/**
+ * Handles the side effects of the game for the desktop application.
+ * <p>
+ * It plays the sound effect for each event of the game, and saves the final score to the scores file once the game
+ * ends.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+class TetrisListener implements GameListener {
+
+    /**
+     * The file storing the scores obtained from the game.
+     */
+    private ScoresFile scoresFile;
+
+    TetrisListener(ScoresFile scoresFile) {
+
+        this.scoresFile = scoresFile;
+    }
+
+    @Override
+    public void onPieceMoved() {
+
+        GameAudio.MOVE_CLIP.play();
+    }
+
+    @Override
+    public void onPieceRotated() {
+
+        GameAudio.playSound(GameAudio.ROTATE_SFX_FILENAME);
+    }
+
+    @Override
+    public void onPieceLanded(boolean fastDrop) {
+
+        // Soft and hard drop have their own landing sound.
+        if (fastDrop)
+            GameAudio.FAST_LAND_CLIP.play();
+        else
+            GameAudio.LAND_CLIP.play();
+    }
+
+    @Override
+    public void onLinesCleared(int lines) {
+
+        // Clearing four lines at once (a 'Tetris') has its own sound.
+        if (lines == 4)
+            GameAudio.TETRIS_CLIP.play();
+        else
+            GameAudio.CLEAR_CLIP.play();
+    }
+
+    @Override
+    public void onLevelUp(int level) {
+
+        GameAudio.LEVEL_UP_CLIP.play();
+    }
+
+    @Override
+    public void onGameOver() {
+
+        GameAudio.GAME_OVER_CLIP.play();
+    }
+
+    @Override
+    public void onGameEnded(int finalScore) {
+
+        // Store the score of the finished game.
+        scoresFile.addNewScore(finalScore);
+    }
+}
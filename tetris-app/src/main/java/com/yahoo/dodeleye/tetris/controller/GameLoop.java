@@ -0,0 +1,255 @@
+package com.yahoo.dodeleye.tetris.controller;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A main loop that runs the game logic and repaints at fixed rates, parking the thread in between.
+ * <p>
+ * The logic is stepped by a fixed time step, catching up with as many steps as are due each time the thread wakes.
+ * Repaints are paced separately at the render rate. Between the two, the thread is parked until the next deadline
+ * rather than spinning, so an idle game uses very little CPU.
+ * </p>
+ * <p>
+ * At each frame the subclass may decide there is nothing new to draw, in which case the frame is counted as skipped
+ * rather than rendered.
+ * </p>
+ * <p>
+ * If the thread falls too far behind (a long pause, or logic slower than real time), at most
+ * {@link #MAX_CATCH_UP_TIME} worth of steps are run at once and the rest are dropped, so the loop can never fall
+ * further and further behind trying to catch up. Dropped steps and late repaints are counted.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+public abstract class GameLoop implements Runnable {
+
+    /**
+     * The default number of logic steps per second, for a time step of 0.01 seconds.
+     */
+    public static final int DEFAULT_LOGIC_RATE = 100;
+
+    /**
+     * The default number of repaints per second.
+     */
+    public static final int DEFAULT_RENDER_RATE = 60;
+
+    /**
+     * The most time (in seconds) the logic will catch up on after waking. Any further behind is dropped.
+     */
+    public static final double MAX_CATCH_UP_TIME = 0.25;
+
+    /**
+     * The number of nanoseconds in a second.
+     */
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    /**
+     * The time step of the logic, in nanoseconds.
+     */
+    private final long logicInterval;
+
+    /**
+     * The time between repaints, in nanoseconds.
+     */
+    private final long renderInterval;
+
+    /**
+     * The most logic steps run after waking.
+     */
+    private final int maxCatchUpSteps;
+
+    /**
+     * Whether the loop should keep running.
+     */
+    private volatile boolean running = true;
+
+    /**
+     * The counters of the loop. They are only changed by the loop thread, but may be read from any thread.
+     */
+    private volatile long steps, frames, skippedFrames, droppedSteps, droppedFrames, lateFrames;
+
+    /**
+     * Creates a loop that runs at the default rates.
+     */
+    protected GameLoop() {
+
+        this(DEFAULT_LOGIC_RATE, DEFAULT_RENDER_RATE);
+    }
+
+    /**
+     * Creates a loop.
+     *
+     * @param logicRate  the number of logic steps per second.
+     * @param renderRate the number of repaints per second.
+     */
+    protected GameLoop(int logicRate, int renderRate) {
+
+        if (logicRate < 1)
+            throw new IllegalArgumentException("The logic rate must be at least 1: " + logicRate);
+
+        if (renderRate < 1)
+            throw new IllegalArgumentException("The render rate must be at least 1: " + renderRate);
+
+        logicInterval = NANOS_PER_SECOND / logicRate;
+        renderInterval = NANOS_PER_SECOND / renderRate;
+        maxCatchUpSteps = Math.max(1, (int) (MAX_CATCH_UP_TIME * logicRate));
+    }
+
+    @Override
+    public final void run() {
+
+        // The time step passed to the logic, in seconds.
+        double logicStep = (double) logicInterval / NANOS_PER_SECOND;
+
+        long start = System.nanoTime();
+
+        // The deadlines of the next logic step and the next repaint.
+        long nextStep = start;
+        long nextFrame = start;
+
+        // The times input was last processed and the view was last repainted.
+        long lastInput = start;
+        long lastFrame = start;
+
+        while (running) {
+
+            long now = System.nanoTime();
+
+            // Process the input since the thread last woke.
+            processInput((double) (now - lastInput) / NANOS_PER_SECOND);
+            lastInput = now;
+
+            // Run every logic step that is due, up to the catch up limit.
+            int stepsRun = 0;
+
+            while (now - nextStep >= 0 && stepsRun < maxCatchUpSteps) {
+
+                gameLogic(logicStep);
+                nextStep += logicInterval;
+                stepsRun += 1;
+            }
+
+            steps += stepsRun;
+
+            // If still behind, drop the steps that are left rather than trying to catch up with them later.
+            if (now - nextStep >= 0) {
+
+                long behind = (now - nextStep) / logicInterval + 1;
+                droppedSteps += behind;
+                nextStep += behind * logicInterval;
+            }
+
+            // Repaint once the next frame is due.
+            if (now - nextFrame >= 0) {
+
+                // Any whole frames slept through are skipped, rather than repainted back to back.
+                long missed = (now - nextFrame) / renderInterval;
+
+                if (missed > 0) {
+                    droppedFrames += missed;
+                    lateFrames += 1;
+                }
+
+                // Count the frame as rendered only if the view was actually repainted.
+                if (repaint((double) (now - lastFrame) / NANOS_PER_SECOND)) {
+                    lastFrame = now;
+                    frames += 1;
+                } else {
+                    skippedFrames += 1;
+                }
+
+                nextFrame += (missed + 1) * renderInterval;
+            }
+
+            // Park until whichever deadline comes first. Parking can end early, which the next pass handles.
+            long wait = Math.min(nextStep, nextFrame) - System.nanoTime();
+
+            if (wait > 0)
+                LockSupport.parkNanos(this, wait);
+        }
+    }
+
+    /**
+     * Stops the loop after its current pass.
+     */
+    public void stop() {
+
+        running = false;
+    }
+
+    /**
+     * Gets the number of logic steps run so far.
+     *
+     * @return the number of steps.
+     */
+    public long getSteps() {
+        return steps;
+    }
+
+    /**
+     * Gets the number of frames rendered so far.
+     *
+     * @return the number of frames repainted.
+     */
+    public long getFrames() {
+        return frames;
+    }
+
+    /**
+     * Gets the number of frames skipped because there was nothing new to draw.
+     *
+     * @return the number of skipped frames.
+     */
+    public long getSkippedFrames() {
+        return skippedFrames;
+    }
+
+    /**
+     * Gets the number of logic steps dropped for being too far behind.
+     *
+     * @return the number of dropped steps.
+     */
+    public long getDroppedSteps() {
+        return droppedSteps;
+    }
+
+    /**
+     * Gets the number of repaints skipped because the loop woke too late for them.
+     *
+     * @return the number of dropped frames.
+     */
+    public long getDroppedFrames() {
+        return droppedFrames;
+    }
+
+    /**
+     * Gets the number of repaints that came a whole frame or more after they were due.
+     *
+     * @return the number of late frames.
+     */
+    public long getLateFrames() {
+        return lateFrames;
+    }
+
+    /**
+     * Handles the input since the loop last woke.
+     *
+     * @param dt the time (in seconds) since input was last processed.
+     */
+    public abstract void processInput(double dt);
+
+    /**
+     * Runs a single step of the game logic.
+     *
+     * @param dt the fixed time step (in seconds).
+     */
+    public abstract void gameLogic(double dt);
+
+    /**
+     * Repaints the view, if there is anything new to draw.
+     *
+     * @param dt the time (in seconds) since the last repaint.
+     * @return true if the view was repainted, false if the frame was skipped.
+     */
+    public abstract boolean repaint(double dt);
+}
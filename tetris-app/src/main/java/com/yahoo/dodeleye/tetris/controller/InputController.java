@@ -1,18 +1,17 @@
 package com.yahoo.dodeleye.tetris.controller;
 
-import com.yahoo.dodeleye.tetris.Tetris1;
 import com.yahoo.dodeleye.tetris.view.GamePanel;
 
 import javax.swing.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.KeyEvent;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.HashMap;
-import java.util.List;
 
 /**
  * Handles all input controls from the player for the game.
+ * <p>
+ * Each time an input is pressed or released, the event is added to an {@link InputEventQueue} along with the time it
+ * happened, for the game loop to handle in order. Keys held down by the system's own key repeat are only added once.
+ * </p>
  *
  * @version 1.0.0
  * @since 1.0.0
@@ -20,55 +19,51 @@ import java.util.List;
 public class InputController {
 
     /**
-     * The initial delay before applying auto-repeat.
+     * Whether the key for each input is being held, indexed by the ordinal of the input.
+     * <p>
+     * It is only used on the event dispatch thread, to add an event only when a key changes between held and not.
+     * </p>
      */
-    static final float AUTOREPEAT_TIME = 0.15f;
+    private boolean[] held = new boolean[InputId.values().length];
+
     /**
-     * The delays between auto-repeat shifts.
+     * The presses and releases of the inputs waiting for the game loop.
      */
-    static final float AUTOREPEAT_DELAYS = 0.05f;
+    private InputEventQueue events = new InputEventQueue();
 
     /**
-     * The map used to determine whether a key for a given input is being held or not.
-     * <p>
-     * Its key is a string used as an identifier for the input.
-     * The value part of the pair true if the key is held or false if it is not being held.
-     * </p>
+     * The panel the key bindings of the inputs are registered to.
      */
-    private HashMap<String, Boolean> inputMap = new HashMap<>();
-
-    InputController() {
+    private GamePanel gamePanel;
 
-        List<InputController.InputId> inputs = new ArrayList<>(Arrays.asList(InputController.InputId.values()));
+    InputController(GamePanel gamePanel) {
 
-        for(InputController.InputId input : inputs){
+        this.gamePanel = gamePanel;
 
-            String id = input.getValue();
-            int keyCode = input.getKeyCode();
-            addInput(id, keyCode);
-        }
+        for (InputController.InputId input : InputController.InputId.values())
+            addInput(input);
     }
 
     /**
-     * Creates a new input map identical to the current one.
+     * Gets the queue the presses and releases of the inputs are added to.
      *
-     * @return an input map identical to the current one.
+     * @return the queue of input events, to be read by the game loop only.
+     * @since 1.2.0
      */
-    HashMap<String, Boolean> getInputMapCopy() {
+    InputEventQueue getEvents() {
 
-        return new HashMap<>(inputMap);
+        return events;
     }
 
     /**
      * Registers a new input to the controller.
      *
-     * @param inputKey a key id for the input
-     * @param keyCode  the key code for the key used to detect the input.
+     * @param input the input, holding its id and the key code for the key used to detect it.
      */
-    private void addInput(String inputKey, int keyCode) {
+    private void addInput(InputId input) {
 
-        // Get the game panel.
-        GamePanel gamePanel = Tetris1.getGamePanel();
+        String inputKey = input.getValue();
+        int keyCode = input.getKeyCode();
 
         // Create a new action for when the key is pressed.
         Action pressAction = new AbstractAction() {
@@ -76,8 +71,8 @@ public class InputController {
             @Override
             public void actionPerformed(ActionEvent e) {
 
-                // Set the 'is key pressed?' value to true.
-                inputMap.put(inputKey, true);
+                // Add the press, unless the key is already held and this is only the system's key repeat.
+                setHeld(input, true);
             }
         };
 
@@ -86,8 +81,9 @@ public class InputController {
 
             @Override
             public void actionPerformed(ActionEvent e) {
-                // Set the 'is key pressed?' value to false.
-                inputMap.put(inputKey, false);
+
+                // Add the release.
+                setHeld(input, false);
             }
         };
 
@@ -95,9 +91,6 @@ public class InputController {
         String pressKey = inputKey + "Pressed";
         String releaseKey = inputKey + "Released";
 
-        // Add the key to the input map, setting the 'is key pressed' value to false.
-        inputMap.put(inputKey, false);
-
         // Add to the game panel's own input map and action map assigned to it.
         gamePanel.getInputMap().put(KeyStroke.getKeyStroke(keyCode, 0), pressKey);
         gamePanel.getInputMap().put(KeyStroke.getKeyStroke(keyCode, 0, true), releaseKey);
@@ -106,15 +99,26 @@ public class InputController {
         gamePanel.getActionMap().put(releaseKey, releaseAction);
     }
 
+    /**
+     * Adds an event for an input, if it has changed between held and not held.
+     *
+     * @param input the input pressed or released.
+     * @param down  true if the key was pressed, false if it was released.
+     */
+    private void setHeld(InputId input, boolean down) {
+
+        if (held[input.ordinal()] == down)
+            return;
+
+        held[input.ordinal()] = down;
+        events.offer(System.nanoTime(), input, down);
+    }
+
     @Deprecated
     public void removeInput(String inputKey, int keyCode) {
 
-        GamePanel gamePanel = Tetris1.getGamePanel();
-
         String pressKey = inputKey + "Pressed";
         String releaseKey = inputKey + "Released";
-
-        inputMap.remove(inputKey);
         gamePanel.getInputMap().remove(KeyStroke.getKeyStroke(keyCode, 0));
         gamePanel.getInputMap().remove(KeyStroke.getKeyStroke(keyCode, 0, true));
 
@@ -125,7 +129,13 @@ public class InputController {
     @Deprecated
     public boolean keyHeld(String key) {
 
-        return inputMap.get(key);
+        for (InputId input : InputId.values()) {
+
+            if (input.getValue().equals(key))
+                return held[input.ordinal()];
+        }
+
+        throw new IllegalArgumentException("No input with the id " + key);
 
     }
 
@@ -0,0 +1,171 @@
+package com.yahoo.dodeleye.tetris.controller;
+
+/**
+ * Passes timestamped key presses and releases from the event dispatch thread to the game loop, in order.
+ * <p>
+ * It is a ring buffer with a single producer, the Swing key bindings, and a single consumer, the game loop. Each side
+ * only ever writes its own index, and an event is published by the volatile write of the producer's index after its
+ * slot is filled, so no locks are needed and nothing is allocated once the queue is created.
+ * </p>
+ * <p>
+ * If the game loop falls so far behind that the ring fills up, further events are dropped and counted rather than
+ * blocking the event dispatch thread.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+final class InputEventQueue {
+
+    /**
+     * The default number of events the queue can hold, far more than can be pressed between two passes of the loop.
+     */
+    static final int DEFAULT_CAPACITY = 256;
+
+    /**
+     * The time (from {@link System#nanoTime()}) of each event.
+     */
+    private final long[] times;
+
+    /**
+     * The input of each event.
+     */
+    private final InputController.InputId[] inputs;
+
+    /**
+     * Whether each event was a press (true) or a release (false).
+     */
+    private final boolean[] presses;
+
+    /**
+     * Masks a count of events to an index into the ring.
+     */
+    private final int mask;
+
+    /**
+     * The number of events ever added. Only written by the producer.
+     */
+    private volatile long writeCount;
+
+    /**
+     * The number of events ever removed. Only written by the consumer.
+     */
+    private volatile long readCount;
+
+    /**
+     * The number of events dropped because the queue was full. Only written by the producer.
+     */
+    private volatile long droppedCount;
+
+    /**
+     * Creates a queue with the default capacity.
+     */
+    InputEventQueue() {
+
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a queue.
+     *
+     * @param capacity the number of events the queue can hold, a power of 2.
+     */
+    InputEventQueue(int capacity) {
+
+        if (capacity < 1 || Integer.bitCount(capacity) != 1)
+            throw new IllegalArgumentException("The capacity must be a power of 2: " + capacity);
+
+        times = new long[capacity];
+        inputs = new InputController.InputId[capacity];
+        presses = new boolean[capacity];
+        mask = capacity - 1;
+    }
+
+    /**
+     * Adds an event to the back of the queue. This should only be called by the producer.
+     *
+     * @param time    the time (from {@link System#nanoTime()}) of the event.
+     * @param input   the input pressed or released.
+     * @param pressed true if the input was pressed, false if it was released.
+     * @return true if the event was added, false if it was dropped because the queue is full.
+     */
+    boolean offer(long time, InputController.InputId input, boolean pressed) {
+
+        long count = writeCount;
+
+        if (count - readCount > mask) {
+            droppedCount += 1;
+            return false;
+        }
+
+        int index = (int) count & mask;
+        times[index] = time;
+        inputs[index] = input;
+        presses[index] = pressed;
+
+        // Publish the event only once its slot is filled.
+        writeCount = count + 1;
+
+        return true;
+    }
+
+    /**
+     * Checks whether there are no events waiting. This should only be called by the consumer.
+     *
+     * @return true if the queue is empty, false otherwise.
+     */
+    boolean isEmpty() {
+
+        return readCount == writeCount;
+    }
+
+    /**
+     * Gets the time of the event at the front of the queue. This should only be called by the consumer, and only
+     * when the queue is not empty.
+     *
+     * @return the time (from {@link System#nanoTime()}) of the event.
+     */
+    long peekTime() {
+
+        return times[(int) readCount & mask];
+    }
+
+    /**
+     * Gets the input of the event at the front of the queue. This should only be called by the consumer, and only
+     * when the queue is not empty.
+     *
+     * @return the input pressed or released.
+     */
+    InputController.InputId peekInput() {
+
+        return inputs[(int) readCount & mask];
+    }
+
+    /**
+     * Checks whether the event at the front of the queue was a press. This should only be called by the consumer,
+     * and only when the queue is not empty.
+     *
+     * @return true if the input was pressed, false if it was released.
+     */
+    boolean peekPressed() {
+
+        return presses[(int) readCount & mask];
+    }
+
+    /**
+     * Removes the event at the front of the queue, freeing its slot for the producer. This should only be called by
+     * the consumer, and only when the queue is not empty.
+     */
+    void remove() {
+
+        readCount += 1;
+    }
+
+    /**
+     * Gets the number of events dropped because the queue was full.
+     *
+     * @return the number of dropped events.
+     */
+    long getDroppedCount() {
+        return droppedCount;
+    }
+}
@@ -0,0 +1,236 @@
+package com.yahoo.dodeleye.tetris.controller;
+
+import com.yahoo.dodeleye.tetris.model.Command;
+import com.yahoo.dodeleye.tetris.model.CommandSource;
+import com.yahoo.dodeleye.tetris.model.Handling;
+import com.yahoo.dodeleye.tetris.model.Playfield;
+
+/**
+ * Turns the key presses and releases of the player into commands for the game.
+ * <p>
+ * Each press gives the command of its key, and while left or right is held, the shifts of delayed auto-shift (DAS)
+ * are given as they fall due. The shifts are timed from when the key was pressed, not from when the loop happened to
+ * notice it, so the timing does not depend on how often the loop runs.
+ * </p>
+ * <p>
+ * The delays come from the {@link Handling} of the player. The shifts due are counted with a single division rather
+ * than one at a time, and whenever they are enough to cross the whole playfield - always, once the delayed auto-shift
+ * is charged with an auto-repeat rate of 0 - they are given as a single shift to the wall.
+ * </p>
+ * <p>
+ * The game asks for one command at a time, so the shifts due before an event, and the command of the event itself, are
+ * held back until asked for. The source gives null once every event has been handled and every shift due up to the
+ * present has been given.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+final class KeyboardSource implements CommandSource {
+
+    /**
+     * The presses and releases of the inputs, in the order they happened.
+     */
+    private final InputEventQueue events;
+
+    /**
+     * How soon and how fast a held shift repeats.
+     */
+    private final Handling handling;
+
+    /**
+     * The number of auto-repeat shifts due but not yet given.
+     */
+    private int pendingShifts;
+
+    /**
+     * The command of the shifts due, in the direction held, or a shift to the wall if enough are due to reach it.
+     */
+    private Command shiftCommand;
+
+    /**
+     * The command of the last event handled, if not yet given. Given after the shifts due before it.
+     */
+    private Command pendingCommand;
+
+    /**
+     * Whether the left or right input is held down. Both cannot be held at once.
+     */
+    private boolean leftHeld, rightHeld;
+
+    /**
+     * The time (from {@link System#nanoTime()}) the next auto-repeat shift is due, while left or right is held.
+     */
+    private long nextAutorepeat;
+
+    /**
+     * Whether the shifts due up to the present have been counted since the source last gave null.
+     */
+    private boolean caughtUp;
+
+    /**
+     * Creates a source.
+     *
+     * @param events   the presses and releases of the inputs.
+     * @param handling how soon and how fast a held shift repeats.
+     */
+    KeyboardSource(InputEventQueue events, Handling handling) {
+
+        this.events = events;
+        this.handling = handling;
+    }
+
+    @Override
+    public Command poll(long time) {
+
+        while (true) {
+
+            // First give any shifts due, then the command of the event they came before.
+            if (pendingShifts > 0) {
+                pendingShifts -= 1;
+                return shiftCommand;
+            }
+
+            if (pendingCommand != null) {
+                Command command = pendingCommand;
+                pendingCommand = null;
+                return command;
+            }
+
+            // Then handle the next event, in the order they happened.
+            if (!events.isEmpty()) {
+
+                long eventTime = events.peekTime();
+
+                // Count any auto-repeat due before the event.
+                countAutorepeat(eventTime);
+
+                if (events.peekPressed())
+                    pendingCommand = keyDown(events.peekInput(), eventTime);
+                else
+                    pendingCommand = keyUp(events.peekInput());
+
+                events.remove();
+                continue;
+            }
+
+            // Then count any auto-repeat due since the last event, once.
+            if (!caughtUp) {
+                caughtUp = true;
+                countAutorepeat(System.nanoTime());
+                continue;
+            }
+
+            // Nothing more to give until the game next asks.
+            caughtUp = false;
+            return null;
+        }
+    }
+
+    /**
+     * Handles an input being pressed down.
+     *
+     * @param input the input pressed.
+     * @param time  the time (from {@link System#nanoTime()}) it was pressed.
+     * @return the command of the input.
+     */
+    private Command keyDown(InputController.InputId input, long time) {
+
+        switch (input) {
+
+            case LEFT:
+                // Left key is now being held down, and both keys should not be held down simultaneously.
+                leftHeld = true;
+                rightHeld = false;
+                // Start the auto-repeat delay from the press.
+                nextAutorepeat = time + handling.getDelayedAutoShift();
+                return Command.SHIFT_LEFT;
+
+            case RIGHT:
+                // Right key is now being held down, and both keys should not be held down simultaneously.
+                rightHeld = true;
+                leftHeld = false;
+                // Start the auto-repeat delay from the press.
+                nextAutorepeat = time + handling.getDelayedAutoShift();
+                return Command.SHIFT_RIGHT;
+
+            case ROTATE_CLOCKWISE:
+                return Command.ROTATE_CLOCKWISE;
+
+            case ROTATE_ANTICLOCKWISE:
+                return Command.ROTATE_ANTICLOCKWISE;
+
+            case SOFT_DROP:
+                return Command.SOFT_DROP_ON;
+
+            case HARD_DROP:
+                return Command.HARD_DROP;
+
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Handles an input being released.
+     *
+     * @param input the input released.
+     * @return the command of the release, or null if it has none.
+     */
+    private Command keyUp(InputController.InputId input) {
+
+        switch (input) {
+
+            case LEFT:
+                // Left key is no longer being held down.
+                leftHeld = false;
+                return null;
+
+            case RIGHT:
+                // Right key is no longer being held down.
+                rightHeld = false;
+                return null;
+
+            case SOFT_DROP:
+                return Command.SOFT_DROP_OFF;
+
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Counts every auto-repeat shift that has become due.
+     *
+     * @param time the time (from {@link System#nanoTime()}) to count the shifts due up to.
+     */
+    private void countAutorepeat(long time) {
+
+        // Do nothing if neither the left or right key is held down, or the delayed auto-shift is not yet charged.
+        if ((!leftHeld && !rightHeld) || time - nextAutorepeat < 0)
+            return;
+
+        long rate = handling.getAutoRepeatRate();
+
+        // With no delay between shifts, the tetromino goes straight to the wall every time the game asks.
+        if (rate == 0) {
+            pendingShifts = 1;
+            shiftCommand = leftHeld ? Command.SHIFT_LEFT_TO_WALL : Command.SHIFT_RIGHT_TO_WALL;
+            return;
+        }
+
+        // Count every shift due at once, and push back the next by that many delay intervals.
+        long due = (time - nextAutorepeat) / rate + 1;
+        nextAutorepeat += due * rate;
+
+        // Once enough are due to cross the playfield, a single shift to the wall does the same.
+        if (pendingShifts + due >= Playfield.getGridWidth()) {
+            pendingShifts = 1;
+            shiftCommand = leftHeld ? Command.SHIFT_LEFT_TO_WALL : Command.SHIFT_RIGHT_TO_WALL;
+        }
+
+        else {
+            pendingShifts += (int) due;
+            shiftCommand = leftHeld ? Command.SHIFT_LEFT : Command.SHIFT_RIGHT;
+        }
+    }
+}
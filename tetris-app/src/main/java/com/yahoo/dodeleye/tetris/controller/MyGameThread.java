@@ -0,0 +1,120 @@
+package com.yahoo.dodeleye.tetris.controller;
+
+import com.yahoo.dodeleye.GameAudio;
+import com.yahoo.dodeleye.tetris.Tetris1;
+import com.yahoo.dodeleye.tetris.model.CommandSource;
+import com.yahoo.dodeleye.tetris.model.GameLogic;
+import com.yahoo.dodeleye.tetris.model.SnapshotBuffer;
+import com.yahoo.dodeleye.tetris.view.GameCanvas;
+
+/**
+ * A thread used to create the main loop of the program.
+ */
+public class MyGameThread extends GameLoop {
+
+    // The model of the game being played.
+    private GameLogic model;
+
+    // Passes snapshots of the model to the view, which is drawn on another thread.
+    private SnapshotBuffer snapshots;
+
+    // The number of the last snapshot a repaint was requested for.
+    private long paintedFrame = -1;
+
+    // The window the game is shown on.
+    private Tetris1 mainFrame;
+
+    // Gives the commands the player makes, such as from the keyboard.
+    private CommandSource input;
+
+    public MyGameThread(GameLogic model, SnapshotBuffer snapshots, Tetris1 mainFrame) {
+
+        this(model, snapshots, mainFrame, DEFAULT_RENDER_RATE);
+    }
+
+    public MyGameThread(GameLogic model, SnapshotBuffer snapshots, Tetris1 mainFrame, int renderRate) {
+
+        // Initialise the input controller, registering its keys to the game panel, and take commands from its keys.
+        this(model, snapshots, mainFrame, renderRate,
+                new KeyboardSource(new InputController(mainFrame.getGamePanel()).getEvents(), model.getHandling()));
+    }
+
+    /**
+     * Creates the main loop, taking the player's commands from any source, such as a replay.
+     *
+     * @param model      the model of the game being played.
+     * @param snapshots  passes snapshots of the model to the view.
+     * @param mainFrame  the window the game is shown on.
+     * @param renderRate the number of times per second to draw the game.
+     * @param input      gives the commands of the player.
+     * @since 1.2.0
+     */
+    public MyGameThread(GameLogic model, SnapshotBuffer snapshots, Tetris1 mainFrame, int renderRate,
+                        CommandSource input) {
+
+        super(DEFAULT_LOGIC_RATE, renderRate);
+
+        this.model = model;
+        this.snapshots = snapshots;
+        this.mainFrame = mainFrame;
+        this.input = input;
+
+        // Play the background music.
+        GameAudio.BG_MUSIC_CLIP.play(true);
+
+    }
+
+    // Used to end the thread, thus ending the game.
+    public void endThread() {
+        stop();
+    }
+
+    @Override
+    public void gameLogic(double dt) {
+
+        // Update the model component.
+        model.update(dt);
+
+        // Publish the updated model for the view to draw.
+        snapshots.publish();
+
+    }
+
+    @Override
+    public boolean repaint(double dt) {
+
+        GameCanvas canvas = mainFrame.getGameCanvas();
+
+        // In active rendering, draw the game straight onto the canvas from this thread.
+        if (canvas != null) {
+
+            // Nothing to draw unless there is a new snapshot, or the canvas was uncovered.
+            if (snapshots.getFrames() == paintedFrame && !canvas.needsRender())
+                return false;
+
+            paintedFrame = snapshots.getFrames();
+
+            return canvas.render();
+        }
+
+        // Nothing to draw if no new snapshot has been published since the last repaint.
+        if (snapshots.getFrames() == paintedFrame)
+            return false;
+
+        paintedFrame = snapshots.getFrames();
+
+        // Repaint the view component.
+        mainFrame.repaint();
+
+        return true;
+    }
+
+
+    @Override
+    public void processInput(double dt) {
+
+        // Apply every command given since the last pass, in the order they were made.
+        model.applyCommands(input);
+    }
+
+}
@@ -0,0 +1,193 @@
+package com.yahoo.dodeleye.tetris.view;
+
+import com.yahoo.dodeleye.tetris.model.FrameSnapshot;
+import com.yahoo.dodeleye.tetris.model.Playfield;
+import com.yahoo.dodeleye.tetris.model.Tetromino;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * Draws the playfield of a frame snapshot: the ghost piece, the blocks and the gridlines.
+ * <p>
+ * It is shared by the Swing grid surface and the actively rendered game canvas, which draw the playfield at different
+ * positions. The gridlines never change, so they are drawn once into a transparent layer that is drawn over the
+ * blocks with a single image draw. The blocks and ghost piece are copied from the tiles of a {@link TileAtlas}.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+final class BoardPainter {
+
+    /**
+     * The pixel square size each cell on the grid should have.
+     */
+    static final int SQUARE_SIZE = 20;
+
+    /**
+     * The width of the visible playfield, in pixels.
+     */
+    static final int WIDTH = Playfield.getGridWidth() * SQUARE_SIZE;
+
+    /**
+     * The height of the visible playfield, in pixels.
+     */
+    static final int HEIGHT = Playfield.getVisibleGridHeight() * SQUARE_SIZE;
+
+    /**
+     * The stroke the gridlines are drawn with, created once rather than for every frame.
+     */
+    private static final Stroke GRIDLINE_STROKE = new BasicStroke(1);
+
+    private BoardPainter() {
+    }
+
+    /**
+     * Draws the ghost piece and the blocks of a frame, without the gridlines.
+     *
+     * @param g     the Graphics object for drawing on.
+     * @param tiles the tiles to draw the cells with.
+     * @param frame the snapshot of the frame to draw.
+     * @param x0    the x pixel coordinate of the top left of the playfield.
+     * @param y0    the y pixel coordinate of the top left of the playfield.
+     */
+    static void paintCells(Graphics g, TileAtlas tiles, FrameSnapshot frame, int x0, int y0) {
+
+        drawGhostPiece(g, tiles, frame, x0, y0);
+
+        // Draw the blocks.
+        drawBlocks(g, tiles, frame.getCellMatrix(), x0, y0);
+    }
+
+    /**
+     * Creates the tiles to draw the cells of the playfield with.
+     *
+     * @param c the component the tiles will be drawn on, to create an image suited to its screen.
+     * @return the tiles, the size of a cell.
+     */
+    static TileAtlas createTiles(Component c) {
+
+        return new TileAtlas(c, SQUARE_SIZE);
+    }
+
+    /**
+     * Creates a transparent layer holding just the gridlines of the playfield.
+     *
+     * @param c the component the layer will be drawn on, to create an image suited to its screen.
+     * @return the gridline layer, the size of the playfield.
+     */
+    static Image createGridlineLayer(Component c) {
+
+        // The gridlines fill whole pixels, so the layer needs no partial transparency to be blended with.
+        BufferedImage layer = GamePanel.createLayer(c, WIDTH, HEIGHT, Transparency.BITMASK);
+
+        Graphics2D g = layer.createGraphics();
+
+        // Draw them antialiased, as the Swing panels always have.
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        drawGridlines(g, 0, 0);
+        g.dispose();
+
+        return layer;
+    }
+
+    /**
+     * Draws gridlines on the playfield.
+     *
+     * @param g  the Graphics object for drawing on.
+     * @param x0 the x pixel coordinate of the top left of the playfield.
+     * @param y0 the y pixel coordinate of the top left of the playfield.
+     */
+    static void drawGridlines(Graphics2D g, int x0, int y0) {
+
+        // Set drawing colour to white.
+        g.setColor(Color.WHITE);
+        // Use thickness of 1.
+        g.setStroke(GRIDLINE_STROKE);
+
+        /*
+        Draw all the horizontal gridlines.
+            Loop through the all the rows of the playfield not including the boundaries
+        */
+        for (int y = 1; y < Playfield.getVisibleGridHeight(); y++) {
+            int yCoord = y0 + y * SQUARE_SIZE;
+            g.drawLine(x0, yCoord, x0 + WIDTH, yCoord);
+        }
+
+        /*
+        Draw all the vertical gridlines.
+            Loop through the all the columns of the playfield not including the boundaries
+        */
+        for (int x = 1; x < Playfield.getGridWidth(); x++) {
+            int xCoord = x0 + x * SQUARE_SIZE;
+            g.drawLine(xCoord, y0, xCoord, y0 + HEIGHT);
+        }
+    }
+
+    /**
+     * Draws the blocks currently held by the playfield.
+     *
+     * @param g        the Graphics object for drawing on.
+     * @param tiles    the tiles to draw the blocks with.
+     * @param cellGrid The matrix containing the type of tetromino each block came from.
+     * @param x0       the x pixel coordinate of the top left of the playfield.
+     * @param y0       the y pixel coordinate of the top left of the playfield.
+     */
+    private static void drawBlocks(Graphics g, TileAtlas tiles, Tetromino.Type[][] cellGrid, int x0, int y0) {
+
+        int gridHeight = cellGrid.length;
+        int gridWidth = cellGrid[0].length;
+
+        // Loop through each visible row of the grid - the hidden rows will be skipped
+        for (int row = Playfield.HIDDEN_ROWS; row < gridHeight; row++) {
+
+            // The actual y pixel coordinate of where the top left of the block will be drawn from.
+            int yCoord = y0 + (row - Playfield.HIDDEN_ROWS) * SQUARE_SIZE;
+
+            // Loop through each column of the grid
+            for (int column = 0; column < gridWidth; column++) {
+
+                // Get the block at the current position
+                Tetromino.Type type = cellGrid[row][column];
+
+                // Ensure that the cell is not empty. Skip it otherwise.
+                if (type != null) {
+
+                    // Draw the block on the surface by copying the tile of its display colour
+                    tiles.drawBlock(g, type, x0 + column * SQUARE_SIZE, yCoord);
+                }
+            }
+        }
+    }
+
+    /**
+     * Draws the ghost piece of the active tetromino, if there is one.
+     *
+     * @param g     the Graphics object for drawing on.
+     * @param tiles the tiles to draw the ghost piece with.
+     * @param frame the snapshot holding the ghost piece.
+     * @param x0    the x pixel coordinate of the top left of the playfield.
+     * @param y0    the y pixel coordinate of the top left of the playfield.
+     */
+    private static void drawGhostPiece(Graphics g, TileAtlas tiles, FrameSnapshot frame, int x0, int y0) {
+
+        // If there is no ghost piece, do nothhing.
+        if (frame.getGhostCellCount() == 0)
+            return;
+
+        Tetromino.Type type = frame.getGhostType();
+
+        // Loop through each position coordinate of the structure.
+        for (int i = 0; i < frame.getGhostCellCount(); i++) {
+
+            // The actual x pixel coordinate of where the top left of the unit will be drawn from.
+            int x = x0 + frame.getGhostX(i) * SQUARE_SIZE;
+
+            // The actual y pixel coordinate of where the top left of the unit will be drawn from.
+            int y = y0 + (frame.getGhostY(i) - Playfield.HIDDEN_ROWS) * SQUARE_SIZE;
+
+            // Draw the unit on the surface by copying the ghost tile of its colour
+            tiles.drawGhost(g, type, x, y);
+        }
+    }
+}
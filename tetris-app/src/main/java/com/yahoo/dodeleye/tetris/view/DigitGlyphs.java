@@ -0,0 +1,113 @@
+package com.yahoo.dodeleye.tetris.view;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * Holds a pre-drawn image of each digit, in a font and colour.
+ * <p>
+ * Each image is a little wider than the digit, so that any part of the digit drawn outside of its advance is kept.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+final class DigitGlyphs {
+
+    /**
+     * The space left either side of each digit in its image, in pixels.
+     */
+    static final int PADDING = 2;
+
+    /**
+     * The image of each digit, indexed by the digit.
+     */
+    private final BufferedImage[] images = new BufferedImage[10];
+
+    /**
+     * The width each digit advances the text by, indexed by the digit.
+     */
+    private final int[] advances = new int[10];
+
+    /**
+     * The height of each image, from the top of the tallest digit to the bottom of the font's descent.
+     */
+    private final int height;
+
+    /**
+     * Draws the digits.
+     *
+     * @param c      the component the digits will be drawn on, to create images suited to its screen.
+     * @param font   the font of the digits.
+     * @param colour the colour of the digits.
+     */
+    DigitGlyphs(Component c, Font font, Color colour) {
+
+        FontMetrics metrics = c.getFontMetrics(font);
+        height = metrics.getAscent() + metrics.getDescent();
+
+        for (int digit = 0; digit < 10; digit++) {
+
+            char ch = (char) ('0' + digit);
+            advances[digit] = metrics.charWidth(ch);
+
+            BufferedImage image = GamePanel.createLayer(c, advances[digit] + PADDING * 2, height);
+
+            Graphics2D g = image.createGraphics();
+            g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            g.setFont(font);
+            g.setColor(colour);
+            g.drawString(String.valueOf(ch), PADDING, metrics.getAscent());
+            g.dispose();
+
+            images[digit] = image;
+        }
+    }
+
+    /**
+     * Draws a digit.
+     *
+     * @param g     the Graphics object for drawing on.
+     * @param digit the digit, from 0 to 9.
+     * @param x     the x pixel coordinate of the left of the digit's image, which is {@link #PADDING} pixels left
+     *              of the digit itself.
+     * @param y     the y pixel coordinate of the top of the digit.
+     */
+    void draw(Graphics g, int digit, int x, int y) {
+
+        g.drawImage(images[digit], x, y, null);
+    }
+
+    /**
+     * Gets the width a digit advances the text by.
+     *
+     * @param digit the digit, from 0 to 9.
+     * @return the advance of the digit, in pixels.
+     */
+    int getAdvance(int digit) {
+        return advances[digit];
+    }
+
+    /**
+     * Gets the widest advance of any digit.
+     *
+     * @return the widest advance, in pixels.
+     */
+    int getMaxAdvance() {
+
+        int max = 0;
+
+        for (int advance : advances)
+            max = Math.max(max, advance);
+
+        return max;
+    }
+
+    /**
+     * Gets the height of the digits.
+     *
+     * @return the height, from the top of the tallest digit to the bottom of the font's descent.
+     */
+    int getHeight() {
+        return height;
+    }
+}
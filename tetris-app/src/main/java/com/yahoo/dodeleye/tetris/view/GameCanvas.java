@@ -0,0 +1,404 @@
+package com.yahoo.dodeleye.tetris.view;
+
+import com.yahoo.dodeleye.tetris.model.FrameSnapshot;
+import com.yahoo.dodeleye.tetris.model.GameLogic;
+import com.yahoo.dodeleye.tetris.model.SnapshotBuffer;
+
+import java.awt.*;
+import java.awt.image.BufferStrategy;
+import java.awt.image.BufferedImage;
+
+/**
+ * Draws the whole game straight from the game loop, for active rendering.
+ * <p>
+ * Rather than asking Swing to repaint and waiting for the event dispatch thread, the game loop calls
+ * {@link #render()}, which draws the latest snapshot into the back buffer of a {@link BufferStrategy} and shows it.
+ * The canvas lays out the playfield, lines, score, next piece and level itself, in the same style as the Swing panels.
+ * </p>
+ * <p>
+ * Everything that never changes is drawn once into two layers: an opaque one under the game, holding the background,
+ * the boxes and their labels, and a small one over the playfield, holding its gridlines and outline, which the blocks
+ * must not cover. Each frame then only copies the two layers and draws the blocks, numbers and next piece between
+ * them. The layers are drawn again only when the size of the canvas changes.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+public class GameCanvas extends Canvas {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The space left around and between each box, in pixels.
+     */
+    private static final int MARGIN = 10;
+
+    /**
+     * The space left between the edge of a box and its text, in pixels.
+     */
+    private static final int PADDING = 5;
+
+    /**
+     * The bounds of the box showing the number of lines cleared.
+     */
+    private static final Rectangle LINES_BOX = new Rectangle(MARGIN, MARGIN, BoardPainter.WIDTH, 30);
+
+    /**
+     * The bounds of the playfield.
+     */
+    private static final Rectangle BOARD_BOX = new Rectangle(
+            MARGIN, LINES_BOX.y + LINES_BOX.height + MARGIN, BoardPainter.WIDTH, BoardPainter.HEIGHT);
+
+    /**
+     * The x pixel coordinate and width of the boxes beside the playfield.
+     */
+    private static final int SIDE_X = BOARD_BOX.x + BOARD_BOX.width + MARGIN, SIDE_WIDTH = 150;
+
+    /**
+     * The bounds of the box showing the high score and the current score.
+     */
+    private static final Rectangle SCORE_BOX = new Rectangle(SIDE_X, MARGIN, SIDE_WIDTH, 140);
+
+    /**
+     * The bounds of the box showing the next piece.
+     */
+    private static final Rectangle NEXT_BOX = new Rectangle(
+            SIDE_X, SCORE_BOX.y + SCORE_BOX.height + MARGIN, SIDE_WIDTH, 150);
+
+    /**
+     * The bounds of the box showing the level.
+     */
+    private static final Rectangle LEVEL_BOX = new Rectangle(
+            SIDE_X, NEXT_BOX.y + NEXT_BOX.height + MARGIN, SIDE_WIDTH, 80);
+
+    /**
+     * The stroke the outline of each box is drawn with.
+     */
+    private static final Stroke OUTLINE_STROKE = new BasicStroke(2);
+
+    /**
+     * The label in front of the number of lines cleared.
+     */
+    private static final String LINES_LABEL = "LINES CLEARED -- ";
+
+    /**
+     * The snapshots of the game being shown.
+     */
+    private SnapshotBuffer snapshots;
+
+    /**
+     * The buffers drawn into, created once the canvas is shown.
+     */
+    private BufferStrategy strategy;
+
+    /**
+     * The image of each type of tetromino, shown as the next piece. Created the first time each is needed.
+     */
+    private final PreviewCache previews = new PreviewCache(BoardPainter.SQUARE_SIZE);
+
+    /**
+     * The row of pieces after the next one, or null if only the next piece is shown.
+     */
+    private QueueStrip queue;
+
+    /**
+     * The layer drawn under the game, holding the background, the boxes and their labels.
+     */
+    private BufferedImage underlay;
+
+    /**
+     * The layer drawn over the playfield, holding its gridlines and outline. Its pixels are either fully drawn or
+     * fully clear, so it is copied without blending.
+     */
+    private BufferedImage overlay;
+
+    /**
+     * The tiles the blocks and the ghost piece are drawn with.
+     */
+    private TileAtlas tiles;
+
+    /**
+     * The numbers shown on the canvas, drawn from pre-drawn digits.
+     */
+    private HudField linesField, highScoreField, scoreField, levelField;
+
+    /**
+     * Whether the canvas has been uncovered or resized since it was last rendered, and needs rendering again even
+     * if the game has not changed.
+     */
+    private volatile boolean exposed = true;
+
+    public GameCanvas(SnapshotBuffer snapshots) {
+
+        this(snapshots, 1);
+    }
+
+    /**
+     * Creates a canvas previewing any number of pieces from the Next Queue.
+     *
+     * @param snapshots    the snapshots of the game to be shown.
+     * @param previewCount the number of pieces to preview, from 1 up to {@link GameLogic#NEXT_QUEUE_LENGTH}.
+     */
+    public GameCanvas(SnapshotBuffer snapshots, int previewCount) {
+
+        if (previewCount < 1 || previewCount > GameLogic.NEXT_QUEUE_LENGTH)
+            throw new IllegalArgumentException("The preview count must be from 1 to "
+                    + GameLogic.NEXT_QUEUE_LENGTH + ": " + previewCount);
+
+        this.snapshots = snapshots;
+
+        // Show the pieces after the next one smaller, in a row along the bottom of the next box.
+        if (previewCount > 1)
+            queue = new QueueStrip(new PreviewCache(QueueStrip.CELL_SIZE), 1, previewCount - 1);
+
+        setBackground(GamePanel.BGC);
+    }
+
+    /**
+     * Checks whether the canvas needs rendering again, even if the game has not changed.
+     *
+     * @return true if the canvas has been uncovered since it was last rendered, false otherwise.
+     */
+    public boolean needsRender() {
+
+        return exposed;
+    }
+
+    /**
+     * Draws the latest snapshot of the game and shows it. This should only be called from the game loop.
+     *
+     * @return true if the game was drawn, false if the canvas is not showing yet.
+     */
+    public boolean render() {
+
+        // The buffers can only be created once the canvas is on the screen.
+        if (!isDisplayable())
+            return false;
+
+        if (strategy == null) {
+            createBufferStrategy(2);
+            strategy = getBufferStrategy();
+        }
+
+        exposed = false;
+
+        FrameSnapshot frame = snapshots.acquire();
+
+        // Draw again whenever the contents of the buffers are lost or restored during the frame.
+        do {
+            do {
+                Graphics2D g = (Graphics2D) strategy.getDrawGraphics();
+
+                try {
+                    draw(g, frame);
+                } finally {
+                    g.dispose();
+                }
+
+            } while (strategy.contentsRestored());
+
+            strategy.show();
+
+        } while (strategy.contentsLost());
+
+        // Make sure the frame reaches the screen straight away.
+        Toolkit.getDefaultToolkit().sync();
+
+        return true;
+    }
+
+    @Override
+    public void paint(Graphics g) {
+
+        // The game loop does the drawing; just note that the canvas needs it.
+        exposed = true;
+    }
+
+    @Override
+    public void update(Graphics g) {
+
+        exposed = true;
+    }
+
+    /**
+     * Draws a frame of the game.
+     *
+     * @param g     the Graphics object of the back buffer.
+     * @param frame the snapshot of the frame to draw.
+     */
+    private void draw(Graphics2D g, FrameSnapshot frame) {
+
+        int width = getWidth();
+        int height = getHeight();
+
+        // Draw the layers again if the canvas has changed size since they were last drawn.
+        if (underlay == null || underlay.getWidth() != width || underlay.getHeight() != height)
+            createLayers(width, height);
+
+        // Copy the background, the boxes and their labels.
+        g.drawImage(underlay, 0, 0, null);
+
+        // Draw the playfield, unless the game has ended.
+        if (!frame.checkGameOver())
+            BoardPainter.paintCells(g, tiles, frame, BOARD_BOX.x, BOARD_BOX.y);
+
+        // Only the text needs antialiasing, as every shape lines up with the pixels.
+        g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        g.setFont(GamePanel.textFont);
+        g.setColor(GamePanel.TEXT_COLOUR);
+
+        FontMetrics metrics = g.getFontMetrics();
+        int lineHeight = metrics.getHeight() + PADDING * 2;
+
+        if (frame.checkGameOver()) {
+
+            String text = "GAME OVER";
+            int x = BOARD_BOX.x + (BOARD_BOX.width - metrics.stringWidth(text)) / 2;
+            drawText(g, metrics, text, x, BOARD_BOX.y + PADDING);
+        }
+
+        // Draw the numbers after their labels, which are already on the underlay.
+        linesField.draw(g, this, frame.getNumOfLines(),
+                LINES_BOX.x + PADDING + metrics.stringWidth(LINES_LABEL), LINES_BOX.y + PADDING);
+
+        highScoreField.draw(g, this, frame.getHighScore(),
+                SCORE_BOX.x + PADDING, SCORE_BOX.y + PADDING * 2 + lineHeight);
+        scoreField.draw(g, this, frame.getCurrentScore(),
+                SCORE_BOX.x + PADDING, SCORE_BOX.y + PADDING * 2 + lineHeight * 3);
+
+        drawNextPieces(g, frame);
+
+        levelField.draw(g, this, frame.getLevel(),
+                LEVEL_BOX.x + PADDING, LEVEL_BOX.y + PADDING * 2 + lineHeight);
+
+        // Copy the gridlines and outline over the playfield.
+        g.drawImage(overlay, BOARD_BOX.x - 1, BOARD_BOX.y - 1, null);
+    }
+
+    /**
+     * Draws the parts of the canvas that never change into the layers under and over the game.
+     *
+     * @param width  the width of the canvas, in pixels.
+     * @param height the height of the canvas, in pixels.
+     */
+    private void createLayers(int width, int height) {
+
+        // A canvas that has not been laid out yet still needs layers to draw.
+        width = Math.max(width, 1);
+        height = Math.max(height, 1);
+
+        underlay = GamePanel.createLayer(this, width, height, Transparency.OPAQUE);
+        tiles = BoardPainter.createTiles(this);
+
+        // Create the numbers, each with its minimum number of digits.
+        DigitGlyphs glyphs = new DigitGlyphs(this, GamePanel.textFont, GamePanel.TEXT_COLOUR);
+        linesField = new HudField(glyphs, 3);
+        highScoreField = new HudField(glyphs, 6);
+        scoreField = new HudField(glyphs, 6);
+        levelField = new HudField(glyphs, 2);
+        overlay = GamePanel.createLayer(
+                this, BOARD_BOX.width + 2, BOARD_BOX.height + 2, Transparency.BITMASK);
+
+        Graphics2D g = underlay.createGraphics();
+
+        // Clear the background.
+        g.setColor(GamePanel.BGC);
+        g.fillRect(0, 0, width, height);
+
+        // Fill the background of each box.
+        g.setColor(GamePanel.PANEL_COLOUR);
+        fill(g, LINES_BOX);
+        fill(g, BOARD_BOX);
+        fill(g, SCORE_BOX);
+        fill(g, NEXT_BOX);
+        fill(g, LEVEL_BOX);
+
+        // Draw the labels.
+        g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        g.setFont(GamePanel.textFont);
+        g.setColor(GamePanel.TEXT_COLOUR);
+
+        FontMetrics metrics = g.getFontMetrics();
+        int lineHeight = metrics.getHeight() + PADDING * 2;
+
+        drawText(g, metrics, LINES_LABEL, LINES_BOX.x + PADDING, LINES_BOX.y);
+        drawText(g, metrics, "HIGH SCORE", SCORE_BOX.x + PADDING, SCORE_BOX.y + PADDING);
+        drawText(g, metrics, "SCORE", SCORE_BOX.x + PADDING, SCORE_BOX.y + PADDING + lineHeight * 2);
+        drawText(g, metrics, "NEXT PIECE", NEXT_BOX.x + PADDING, NEXT_BOX.y + PADDING);
+        drawText(g, metrics, "LEVEL", LEVEL_BOX.x + PADDING, LEVEL_BOX.y + PADDING);
+
+        // Draw the outline of each box beside the playfield.
+        g.setColor(GamePanel.OUTLINE_COLOUR);
+        g.setStroke(OUTLINE_STROKE);
+        g.draw(LINES_BOX);
+        g.draw(SCORE_BOX);
+        g.draw(NEXT_BOX);
+        g.draw(LEVEL_BOX);
+
+        g.dispose();
+
+        // The overlay starts a pixel up and left of the playfield, to hold the outer half of its outline.
+        g = overlay.createGraphics();
+
+        // Draw the grid-lines of the playfield.
+        BoardPainter.drawGridlines(g, 1, 1);
+
+        // Draw the outline of the playfield.
+        g.setColor(GamePanel.OUTLINE_COLOUR);
+        g.setStroke(OUTLINE_STROKE);
+        g.drawRect(1, 1, BOARD_BOX.width, BOARD_BOX.height);
+
+        g.dispose();
+    }
+
+    /**
+     * Draws the next piece in the centre of its box, above the row of pieces after it if there is one.
+     *
+     * @param g     the Graphics object of the back buffer.
+     * @param frame the snapshot holding the Next Queue.
+     */
+    private void drawNextPieces(Graphics2D g, FrameSnapshot frame) {
+
+        int height = NEXT_BOX.height;
+
+        // Place the row of pieces after the next one along the bottom of the box.
+        if (queue != null) {
+
+            height -= queue.getHeight() + QueueStrip.MARGIN;
+            queue.draw(g, this, frame, NEXT_BOX.x + (NEXT_BOX.width - queue.getWidth()) / 2, NEXT_BOX.y + height);
+        }
+
+        // Get the image of the piece, drawn only the first time its type is needed.
+        BufferedImage image = previews.get(this, frame.getNextType(0));
+
+        int x = NEXT_BOX.x + (NEXT_BOX.width - image.getWidth()) / 2;
+        int y = NEXT_BOX.y + (height - image.getHeight()) / 2;
+
+        g.drawImage(image, x, y, null);
+    }
+
+    /**
+     * Fills a box.
+     *
+     * @param g   the Graphics object of the back buffer.
+     * @param box the bounds of the box.
+     */
+    private static void fill(Graphics2D g, Rectangle box) {
+
+        g.fillRect(box.x, box.y, box.width, box.height);
+    }
+
+    /**
+     * Draws a line of text from its top left corner.
+     *
+     * @param g       the Graphics object of the back buffer.
+     * @param metrics the metrics of the font being drawn with.
+     * @param text    the text to draw.
+     * @param x       the x pixel coordinate of the left of the text.
+     * @param y       the y pixel coordinate of the top of the text.
+     */
+    private static void drawText(Graphics2D g, FontMetrics metrics, String text, int x, int y) {
+
+        g.drawString(text, x, y + PADDING + metrics.getAscent());
+    }
+}
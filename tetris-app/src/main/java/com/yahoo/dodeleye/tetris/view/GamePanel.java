@@ -0,0 +1,916 @@
+package com.yahoo.dodeleye.tetris.view;
+
+import com.yahoo.dodeleye.tetris.Tetris1;
+import com.yahoo.dodeleye.tetris.model.FrameSnapshot;
+import com.yahoo.dodeleye.tetris.model.GameLogic;
+import com.yahoo.dodeleye.tetris.model.SnapshotBuffer;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.function.ToIntFunction;
+
+/**
+ * Represents the container holding all components of the game.
+ *
+ * @version 1.0.2
+ * @since 1.0.0
+ */
+public class GamePanel extends JPanel {
+
+    /**
+     * The background colour of the panel.
+     */
+    static final Color BGC = Color.RED;
+
+    /**
+     * The text colour for all text displayed on the panel.
+     */
+    static final Color TEXT_COLOUR = Color.WHITE;
+
+    /**
+     * The colour for the outlines of each component on the panel.
+     */
+    static final Color OUTLINE_COLOUR = Color.WHITE;
+
+    /**
+     * The stroke the outlines of each component are drawn with, 2 pixels thick.
+     */
+    private static final Stroke OUTLINE_STROKE = new BasicStroke(2);
+
+    /**
+     * The background colour of all panels held by the game panel.
+     */
+    static final Color PANEL_COLOUR = Color.BLACK;
+
+    /**
+     * The name of the font used for the text.
+     */
+    private static String fontName = "Impact";
+
+    /**
+     * The font used for all text displayed on the panel.
+     */
+    static final Font textFont = new Font(fontName, Font.PLAIN, 20);
+
+    /**
+     * The panel for displaying the current level.
+     */
+    private static JPanel levelPanel;
+
+    /**
+     * The panel for displaying the next tetromino piece.
+     */
+    private static JPanel nextPanel;
+
+    /**
+     * The panel for displaying the high score and the player's current score.
+     */
+    private static JPanel scorePanel;
+
+    /**
+     * The panel for displaying the number of lines cleared.
+     */
+    private static JPanel linesPanel;
+
+    /**
+     * The panel for displaying the playfield matrix.
+     */
+    private static JPanel playfield;
+
+    /**
+     * Inner container for holding the next, level and score panels.
+     */
+    private JPanel subPanel;
+
+    /**
+     * The snapshots of the game being shown.
+     * <p>
+     * The game is updated on its own thread, so the panels only ever draw from the snapshots it publishes. The
+     * latest snapshot is taken once at the start of each repaint, so every panel shows the same frame.
+     * </p>
+     */
+    private SnapshotBuffer snapshots;
+
+    /**
+     * The number of pieces previewed from the Next Queue.
+     */
+    private int previewCount;
+
+    /**
+     * The canvas drawing the whole game in active rendering, or null when the panels are painted by Swing.
+     */
+    private GameCanvas canvas;
+
+    /**
+     * The opaque layer holding everything on the panel that never changes: its background, and the background, labels
+     * and outline of each component. It is drawn again only once the panel has been resized or laid out.
+     */
+    private BufferedImage chrome;
+
+    public GamePanel(SnapshotBuffer snapshots) {
+
+        this(snapshots, 1);
+    }
+
+    /**
+     * Creates a game panel previewing any number of pieces from the Next Queue.
+     *
+     * @param snapshots    the snapshots of the game to be shown.
+     * @param previewCount the number of pieces to preview, from 1 up to {@link GameLogic#NEXT_QUEUE_LENGTH}.
+     * @since 1.2.0
+     */
+    public GamePanel(SnapshotBuffer snapshots, int previewCount) {
+
+        // go through JPanel constructor.
+        super();
+
+        if (previewCount < 1 || previewCount > GameLogic.NEXT_QUEUE_LENGTH)
+            throw new IllegalArgumentException("The preview count must be from 1 to "
+                    + GameLogic.NEXT_QUEUE_LENGTH + ": " + previewCount);
+
+        this.snapshots = snapshots;
+        this.previewCount = previewCount;
+
+        // use the GridBagLayout layout manager for this panel.
+        this.setLayout(new GridBagLayout());
+
+        // Set the size to the same size as the main frame.
+        this.setSize(Tetris1.WIDTH, Tetris1.HEIGHT);
+
+
+        // Set its background colour.
+        this.setBackground(BGC);
+    }
+
+    /**
+     * Places given component onto a given panel.
+     *
+     * @param p       the panel that the component will be added to.
+     * @param c       the component to be added to the panel.
+     * @param x       the column position to add the component to.
+     * @param y       the row position to add the component to.
+     * @param w       the number of columns the component will take up.
+     * @param h       the number of rows the component will take up.
+     * @param itop    the amount of space to leave for the component from the top.
+     * @param ibottom the amount of space to leave for the component from the left.
+     * @param ileft   the amount of space to leave for the component from the bottom.
+     * @param iright  the amount of space to leave for the component from the right.
+     * @param weightx the amount of space to distribute among columns when the panel is resized.
+     *                <p>
+     *                How much it should 'stretch' if the panel is resized. Passing 0 means it will keep its width
+     *                regardless of the panel's resizing behaviour.
+     *                </p>
+     * @param weighty the amount of space to distribute among rows when the panel is resized.
+     *                <p>
+     *                How much it should 'stretch' if the panel is resized. Passing 0 means it will keep its height
+     *                regardless of the panel's resizing behaviour.
+     *                </p>
+     * @param allign  determines where the component will be placed if it is smaller than its display area.
+     */
+    private static void addItem(JPanel p, JComponent c, int x, int y, int w, int h,
+                                int itop, int ibottom, int ileft, int iright,
+                                float weightx, float weighty, int allign) {
+
+
+        // Create new gridbag contraints.
+        GridBagConstraints gc = new GridBagConstraints();
+
+        // Set its fields using the parameters passed.
+        gc.gridx = x;
+        gc.gridy = y;
+        gc.gridwidth = w;
+        gc.gridheight = h;
+        gc.insets = new Insets(itop, ibottom, ileft, iright);
+        gc.weightx = weightx;
+        gc.weighty = weighty;
+        gc.anchor = allign;
+        gc.fill = GridBagConstraints.BOTH;
+
+        // Set the background colour of the component.
+        c.setBackground(PANEL_COLOUR);
+
+        // Add it to the panel.
+        p.add(c, gc);
+    }
+
+    /**
+     * Places given component onto a given panel.
+     *
+     * @param p       the panel that the component will be added to.
+     * @param c       the component to be added to the panel.
+     * @param x       the column position to add the component to.
+     * @param y       the row position to add the component to.
+     * @param w       the number of columns the component will take up.
+     * @param h       the number of rows the component will take up.
+     * @param weightx the amount of space to distribute among columns when the panel is resized.
+     *                <p>
+     *                How much it should 'stretch' if the panel is resized. Passing 0 means it will keep its width
+     *                regardless of the panel's resizing behaviour.
+     *                </p>
+     * @param weighty the amount of space to distribute among rows when the panel is resized.
+     *                <p>
+     *                How much it should 'stretch' if the panel is resized. Passing 0 means it will keep its height
+     *                regardless of the panel's resizing behaviour.
+     *                </p>
+     * @param allign  determines where the component will be placed if it is smaller than its display area.
+     */
+    private static void addItem
+            (JPanel p, JComponent c, int x, int y, int w, int h, float weightx, float weighty, int allign) {
+
+        addItem(p, c, x, y, w, h, 5, 5, 5, 5, weightx, weighty, allign);
+    }
+
+    /**
+     * Places given component onto a given panel.
+     *
+     * @param p       the panel that the component will be added to.
+     * @param c       the component to be added to the panel.
+     * @param x       the column position to add the component to.
+     * @param y       the row position to add the component to.
+     * @param w       the number of columns the component will take up.
+     * @param h       the number of rows the component will take up.
+     * @param allign  determines where the component will be placed if it is smaller than its display area.
+     */
+    private static void addItem(JPanel p, JComponent c, int x, int y, int w, int h, int allign) {
+
+        addItem(p, c, x, y, w, h, 100, 100, allign);
+    }
+
+    /**
+     * Creates a transparent image to pre-render a layer of the view into.
+     * <p>
+     * The image is made compatible with the screen the component is on where possible, so drawing it is a fast copy.
+     * </p>
+     *
+     * @param c      the component the layer will be drawn on.
+     * @param width  the width of the layer, in pixels.
+     * @param height the height of the layer, in pixels.
+     * @return a new, fully transparent image.
+     * @since 1.2.0
+     */
+    static BufferedImage createLayer(Component c, int width, int height) {
+
+        return createLayer(c, width, height, Transparency.TRANSLUCENT);
+    }
+
+    /**
+     * Creates an image to pre-render a layer of the view into.
+     * <p>
+     * The image is made compatible with the screen the component is on where possible, so drawing it is a fast copy.
+     * Layers that cover everything under them should be opaque, as those are copied without blending.
+     * </p>
+     *
+     * @param c            the component the layer will be drawn on.
+     * @param width        the width of the layer, in pixels.
+     * @param height       the height of the layer, in pixels.
+     * @param transparency the transparency of the layer, one of the {@link Transparency} constants.
+     * @return a new image, fully transparent unless opaque.
+     * @since 1.2.0
+     */
+    static BufferedImage createLayer(Component c, int width, int height, int transparency) {
+
+        GraphicsConfiguration gc = c.getGraphicsConfiguration();
+
+        // Components that are not on a screen yet have no configuration to match.
+        if (gc == null) {
+            int type = transparency == Transparency.OPAQUE ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB;
+            return new BufferedImage(width, height, type);
+        }
+
+        return gc.createCompatibleImage(width, height, transparency);
+    }
+
+    /**
+     * Creates new label using the game panel's defined font and text colour.
+     * @param text the text the label should display.
+     * @return a new label in the style defined by the game panel.
+     */
+    static JLabel createLabel(String text) {
+
+        return styleLabel(new JLabel(text));
+    }
+
+    /**
+     * Creates a new label for text that never changes, drawn only into the chrome layer of the game panel.
+     *
+     * @param text the text the label should display.
+     * @return a new label in the style defined by the game panel.
+     * @since 1.2.0
+     */
+    static JLabel createChromeLabel(String text) {
+
+        return styleLabel(new ChromeLabel(text));
+    }
+
+    /**
+     * Sets a label to the game panel's defined font and text colour.
+     *
+     * @param l the label to style.
+     * @return the label.
+     * @since 1.2.0
+     */
+    private static JLabel styleLabel(JLabel l) {
+
+        // Set its text colour to the game panel's defined colour.
+        l.setForeground(TEXT_COLOUR);
+        // Set its font to the game panel's defined font.
+        l.setFont(textFont);
+        // Return the label.
+        return l;
+    }
+
+    /**
+     * Sets up the game panel.
+     */
+    public void init() {
+
+        // JButton pauseButton = new JButton("Pause");
+
+        // Initialise the lines panel.
+        linesPanel = new LinesPanel(snapshots);
+
+        // Add lines panel to the game panel
+        addItem(this, linesPanel, 0, 0, 10, 1, 0, 0, GridBagConstraints.CENTER);
+
+        // Initialise the grid surface.
+        playfield = new GridSurface(snapshots);
+
+        // Add lines panel to the game panel
+        addItem(this, playfield, 0, 1, 10, 20, 0, 0, GridBagConstraints.CENTER);
+
+        // Initialise the score panel.
+        scorePanel = new ScorePanel(snapshots);
+
+        // Initialise the next panel.
+        nextPanel = new NextPanel(snapshots, previewCount);
+
+        // Initialise the level label.
+        levelPanel = new LevelPanel(snapshots);
+
+        // Initialise the sub-panel.
+        subPanel = new JPanel();
+        // Set its layout to gridbag.
+        subPanel.setLayout(new GridBagLayout());
+
+        // Add the score, next and level panels to the sub-panel.
+        addItem(subPanel, scorePanel, 0, 0, 1, 5, 100, 100, GridBagConstraints.NORTH);
+        addItem(subPanel, nextPanel, 0, 5, 1, 4, 100, 400, GridBagConstraints.EAST);
+        addItem(subPanel, levelPanel, 0, 9, 1, 3, 100, 50, GridBagConstraints.EAST);
+
+        //addItem(subPanel, pauseButton, 0, 12, 1, 2, 100, 200, GridBagConstraints.SOUTH);
+
+        // Add the sub-panel to the game panel.
+        addItem(this, subPanel, 11, 0, 1, 21, 0, 0, 0, 0,
+                0, 0, GridBagConstraints.EAST);
+
+        // The sub-panel should use to background since it only works as a container.
+        subPanel.setBackground(null);
+
+        // The backgrounds of the boxes are in the chrome layer, so the boxes only draw what changes over it.
+        subPanel.setOpaque(false);
+        linesPanel.setOpaque(false);
+        scorePanel.setOpaque(false);
+        nextPanel.setOpaque(false);
+        levelPanel.setOpaque(false);
+
+        // Set the game panel to visible.
+        this.setVisible(true);
+    }
+
+    /**
+     * Sets up the game panel for active rendering, where a canvas drawn from the game loop shows the whole game.
+     * <p>
+     * The panel only holds the canvas, and keeps the keyboard focus so that the input keys still reach it.
+     * </p>
+     *
+     * @param canvas the canvas to show the game on.
+     * @since 1.2.0
+     */
+    public void init(GameCanvas canvas) {
+
+        this.canvas = canvas;
+
+        setLayout(new BorderLayout());
+
+        // The heavyweight canvas would otherwise take the focus, and the key bindings of the panel with it.
+        canvas.setFocusable(false);
+        setFocusable(true);
+
+        add(canvas, BorderLayout.CENTER);
+    }
+
+    @Override
+    public void paint(Graphics g) {
+
+        // In active rendering the canvas draws everything itself from the game loop.
+        if (canvas != null) {
+            super.paint(g);
+            return;
+        }
+
+        // Take the latest snapshot for the panels to draw.
+        snapshots.acquire();
+
+        // Copy the chrome, then let the components draw what changes over it.
+        super.paint(g);
+
+        // The playfield is opaque and covers the inner half of its outline, so draw that half again over it. The
+        // outer half is already in the chrome, so the outline is clipped to the playfield to not blend it twice.
+        Rectangle bounds = playfield.getBounds();
+
+        Graphics2D g2 = (Graphics2D) g.create();
+        g2.clip(bounds);
+        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2.setColor(OUTLINE_COLOUR);
+        g2.setStroke(OUTLINE_STROKE);
+        g2.draw(bounds);
+        g2.dispose();
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+
+        if (canvas != null) {
+            super.paintComponent(g);
+            return;
+        }
+
+        // Draw the chrome again only if the panel has been resized or laid out since it was last drawn.
+        if (chrome == null || chrome.getWidth() != getWidth() || chrome.getHeight() != getHeight())
+            chrome = createChrome();
+
+        // The chrome covers the whole panel, so it is copied in place of filling the background.
+        g.drawImage(chrome, 0, 0, null);
+    }
+
+    @Override
+    public void doLayout() {
+
+        super.doLayout();
+
+        // The components may have moved, so the chrome needs drawing again.
+        chrome = null;
+    }
+
+    /**
+     * Draws everything on the panel that never changes into an opaque layer: the background of the panel, and the
+     * background, labels and outline of each component.
+     *
+     * @return the layer holding the chrome, the size of the panel.
+     * @since 1.2.0
+     */
+    private BufferedImage createChrome() {
+
+        BufferedImage layer = createLayer(this, Math.max(getWidth(), 1), Math.max(getHeight(), 1),
+                Transparency.OPAQUE);
+
+        Graphics2D g2 = layer.createGraphics();
+
+        // Fill the background of the panel.
+        g2.setColor(getBackground());
+        g2.fillRect(0, 0, layer.getWidth(), layer.getHeight());
+
+        // Fill the background of each box, and draw the labels that never change. The playfield is opaque and fills
+        // its own.
+        for (JPanel panel : new JPanel[]{linesPanel, nextPanel, scorePanel, levelPanel}) {
+
+            g2.setColor(panel.getBackground());
+            g2.fill(getBoundsInPanel(panel));
+        }
+
+        paintChromeLabels(g2, this);
+
+        // Configure appropriate settings for the graphics object.
+        g2.setRenderingHint(
+                RenderingHints.KEY_ANTIALIASING,
+                RenderingHints.VALUE_ANTIALIAS_ON);
+
+        // Set colour to the outline colour.
+        g2.setColor(OUTLINE_COLOUR);
+        // Set thickness to 2.
+        g2.setStroke(OUTLINE_STROKE);
+
+        // Draw outline of the playfield.
+        g2.draw(getBoundsInPanel(playfield));
+
+        // Draw outline of the lines panel.
+        g2.draw(getBoundsInPanel(linesPanel));
+
+        // Draw outline of the next panel.
+        g2.draw(getBoundsInPanel(nextPanel));
+
+        // Draw outline of the score panel.
+        g2.draw(getBoundsInPanel(scorePanel));
+
+        // Draw outline of the level panel.
+        g2.draw(getBoundsInPanel(levelPanel));
+
+        g2.dispose();
+
+        return layer;
+    }
+
+    /**
+     * Draws every label that never changes inside a container into the chrome layer, at its place on the panel.
+     *
+     * @param g      the Graphics object of the chrome layer.
+     * @param parent the container to search for labels, along with every container inside it.
+     * @since 1.2.0
+     */
+    private void paintChromeLabels(Graphics g, Container parent) {
+
+        for (Component c : parent.getComponents()) {
+
+            if (c instanceof ChromeLabel) {
+
+                Rectangle bounds = getBoundsInPanel(c);
+
+                Graphics lg = g.create(bounds.x, bounds.y, bounds.width, bounds.height);
+                ((ChromeLabel) c).paintChrome(lg);
+                lg.dispose();
+            }
+
+            else if (c instanceof Container) {
+                paintChromeLabels(g, (Container) c);
+            }
+        }
+    }
+
+    /**
+     * Gets the bounds of a component held somewhere inside the panel, relative to the panel.
+     *
+     * @param c the component.
+     * @return the bounds of the component, in the coordinates of the panel.
+     * @since 1.2.0
+     */
+    private Rectangle getBoundsInPanel(Component c) {
+
+        return SwingUtilities.convertRectangle(c.getParent(), c.getBounds(), this);
+    }
+
+}
+
+/**
+ * A label whose text never changes, drawn once into the chrome layer of the {@link GamePanel} rather than on every
+ * repaint. It still takes up its place in the layout as any other label.
+ *
+ * @since 1.2.0
+ */
+class ChromeLabel extends JLabel {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Creates a label.
+     *
+     * @param text the text the label should display.
+     */
+    ChromeLabel(String text) {
+
+        super(text);
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+
+        // The text is already in the chrome layer under the label.
+    }
+
+    /**
+     * Draws the label into the chrome layer.
+     *
+     * @param g the Graphics object for drawing on, placed and clipped to the bounds of the label.
+     */
+    void paintChrome(Graphics g) {
+
+        // Swing would set these on the Graphics object before painting the label itself.
+        g.setFont(getFont());
+        g.setColor(getForeground());
+
+        super.paintComponent(g);
+    }
+}
+
+/**
+ * Used as a visual representation of the grid the game is played on.
+ */
+class GridSurface extends JPanel {
+
+    /**
+     * The snapshots of the game being shown.
+     */
+    private SnapshotBuffer snapshots;
+
+    private JLabel gameOverLabel;
+
+    /**
+     * The tiles the blocks and the ghost piece are drawn with.
+     */
+    private TileAtlas tiles;
+
+    /**
+     * The layer holding the grid-lines, drawn over the blocks.
+     */
+    private Image gridlines;
+
+    GridSurface(SnapshotBuffer snapshots) {
+
+        super();
+
+        this.snapshots = snapshots;
+
+        Dimension gridSize = new Dimension(BoardPainter.WIDTH, BoardPainter.HEIGHT);
+
+        this.setPreferredSize(gridSize);
+
+        gameOverLabel = GamePanel.createLabel("GAME OVER");
+
+        add(gameOverLabel);
+
+        gameOverLabel.setVisible(false);
+
+
+    }
+
+    @Override
+    public void paint(Graphics g) {
+        super.paint(g);
+
+        // Configure appropriate settings for the graphics object.
+        Graphics2D g2 = (Graphics2D) g;
+        g2.setRenderingHint(
+                RenderingHints.KEY_ANTIALIASING,
+                RenderingHints.VALUE_ANTIALIAS_ON);
+
+        FrameSnapshot frame = snapshots.current();
+
+        gameOverLabel.setVisible(frame.checkGameOver());
+
+        if (frame.checkGameOver()) {
+            return;
+        }
+
+        // Draw the tiles and the grid-line layer the first time they are needed.
+        if (tiles == null) {
+            tiles = BoardPainter.createTiles(this);
+            gridlines = BoardPainter.createGridlineLayer(this);
+        }
+
+        // Draw the ghost piece and blocks.
+        BoardPainter.paintCells(g2, tiles, frame, 0, 0);
+
+        // Draw the grid-lines over them.
+
+        g2.drawImage(gridlines, 0, 0, null);
+    }
+
+    @Override
+    public void addNotify() {
+
+        super.addNotify();
+
+        // The surface may now be on a different screen, which may suit a different kind of image.
+        tiles = null;
+        gridlines = null;
+    }
+
+}
+
+/**
+ * Used to display the current number of lines cleared by the player.
+ */
+class LinesPanel extends JPanel {
+
+    LinesPanel(SnapshotBuffer snapshots) {
+
+        super();
+
+        // Create a new box to add the label and the number side by side.
+        Box box = Box.createHorizontalBox();
+
+        // Setup the layout manager
+        setLayout(new FlowLayout(FlowLayout.LEFT));
+        // Create label text to add to the panel, followed by the number of lines cleared with a minimum of 3 digits.
+        box.add(GamePanel.createChromeLabel("LINES CLEARED -- "));
+        box.add(new HudNumber(snapshots, 3, FrameSnapshot::getNumOfLines));
+        add(box);
+    }
+}
+
+/**
+ * Used to display the next piece to spawn on the playfield, and optionally a row of the pieces after it.
+ */
+class NextPanel extends JPanel {
+
+    /**
+     * The previews of the next piece.
+     */
+    private final PreviewCache previews = new PreviewCache(BoardPainter.SQUARE_SIZE);
+
+    /**
+     * The row of pieces after the next one, or null if only the next piece is shown.
+     */
+    private QueueStrip queue;
+
+    /**
+     * The snapshots of the game being shown.
+     */
+    private SnapshotBuffer snapshots;
+
+    NextPanel(SnapshotBuffer snapshots, int previewCount) {
+
+        this.snapshots = snapshots;
+
+        // Show the pieces after the next one smaller, in a row of their own.
+        if (previewCount > 1)
+            queue = new QueueStrip(new PreviewCache(QueueStrip.CELL_SIZE), 1, previewCount - 1);
+
+        // Setup the layout manager
+        setLayout(new FlowLayout(FlowLayout.LEFT));
+        add(GamePanel.createChromeLabel("NEXT PIECE"));
+
+    }
+
+    @Override
+    public void paint(Graphics g) {
+
+        super.paint(g);
+
+        FrameSnapshot frame = snapshots.current();
+
+        // Get width and height of the panel.
+        int panelWidth = getWidth();
+        int panelHeight = getHeight();
+
+        // Place the row of pieces after the next one along the bottom of the panel, if there is one.
+        if (queue != null) {
+
+            panelHeight -= queue.getHeight() + QueueStrip.MARGIN;
+            queue.draw(g, this, frame, (panelWidth - queue.getWidth()) / 2, panelHeight);
+        }
+
+        // Get the image of the next piece, drawn only the first time its type is needed.
+        BufferedImage image = previews.get(this, frame.getNextType(0));
+
+        // Caclulate the centre position of the panel to add the image to.
+        int centerX = (panelWidth - image.getWidth()) / 2;
+        int centreY = (panelHeight - image.getHeight()) / 2;
+
+        // Draw the image onto the panel.
+        g.drawImage(image, centerX, centreY, this);
+
+    }
+}
+
+/**
+ * Used to display the high score and the player's current score.
+ */
+class ScorePanel extends JPanel {
+
+    ScorePanel(SnapshotBuffer snapshots) {
+
+        super();
+
+        // Create a new box to add labels on top of one another.
+        Box box1 = Box.createVerticalBox();
+
+        // Set layout of the panel.
+        setLayout(new FlowLayout(FlowLayout.LEFT));
+
+        // Iniitalise the scores, each with a minimum of 6 digits.
+        HudNumber currentScoreLabel = new HudNumber(snapshots, 6, FrameSnapshot::getCurrentScore);
+        HudNumber highScoreLabel = new HudNumber(snapshots, 6, FrameSnapshot::getHighScore);
+
+        // Create label text to add to the panel.
+        box1.add(GamePanel.createChromeLabel("HIGH SCORE"));
+        box1.add(Box.createVerticalStrut(10));
+        box1.add(highScoreLabel);
+        box1.add(Box.createVerticalStrut(10));
+        box1.add(GamePanel.createChromeLabel("SCORE"));
+        box1.add(Box.createVerticalStrut(10));
+        box1.add(currentScoreLabel);
+
+        // Add the box to the panel.
+        add(box1);
+    }
+}
+
+/**
+ * Used to display the current level of the game.
+ */
+class LevelPanel extends JPanel {
+
+    LevelPanel(SnapshotBuffer snapshots) {
+
+        // Create a new box to add labels on top of one another.
+        Box box = Box.createVerticalBox();
+
+        // Setup the layout manager
+        setLayout(new FlowLayout(FlowLayout.LEFT));
+
+        // Create label text to add to the panel.
+        box.add(GamePanel.createChromeLabel("LEVEL"));
+
+        box.add(Box.createVerticalStrut(10));
+
+        // Initialise the level, with a minimum of 2 digits, and add it to the box.
+        box.add(new HudNumber(snapshots, 2, FrameSnapshot::getLevel));
+
+        // Add the box to the panel.
+        add(box);
+
+    }
+
+
+}
+
+/**
+ * Used to display a number from the game, such as the score, in place of a label.
+ * <p>
+ * A label would have its text formatted and set on every repaint, and setting the text of a label makes Swing lay out
+ * and repaint it again. This draws the number straight from the latest snapshot instead, using a {@link HudField},
+ * so the number is only drawn again when it changes and the layout is left alone.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+class HudNumber extends JComponent {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The digits every number is drawn from, drawn the first time a number is created.
+     */
+    private static DigitGlyphs glyphs;
+
+    /**
+     * The snapshots of the game being shown.
+     */
+    private SnapshotBuffer snapshots;
+
+    /**
+     * Gets the number to show from a snapshot.
+     */
+    private ToIntFunction<FrameSnapshot> value;
+
+    /**
+     * Draws the number.
+     */
+    private HudField field;
+
+    /**
+     * The number of digits the component is sized for.
+     */
+    private int digitCount;
+
+    /**
+     * Creates a number.
+     *
+     * @param snapshots the snapshots of the game being shown.
+     * @param minDigits the fewest digits to show the number with, padded with leading zeros.
+     * @param value     gets the number to show from a snapshot.
+     */
+    HudNumber(SnapshotBuffer snapshots, int minDigits, ToIntFunction<FrameSnapshot> value) {
+
+        this.snapshots = snapshots;
+        this.value = value;
+
+        if (glyphs == null)
+            glyphs = new DigitGlyphs(this, GamePanel.textFont, GamePanel.TEXT_COLOUR);
+
+        field = new HudField(glyphs, minDigits);
+        digitCount = minDigits;
+
+        // Line up with the labels around it.
+        setAlignmentX(LEFT_ALIGNMENT);
+    }
+
+    @Override
+    public Dimension getPreferredSize() {
+
+        // Size the number like a label holding the same digits.
+        return new Dimension(digitCount * glyphs.getMaxAdvance(), getFontMetrics(GamePanel.textFont).getHeight());
+    }
+
+    @Override
+    public Dimension getMaximumSize() {
+        return getPreferredSize();
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+
+        int number = value.applyAsInt(snapshots.current());
+
+        // The layout only needs updating in the rare case the number gains a digit.
+        int count = field.getDigitCount(number);
+
+        if (count > digitCount) {
+            digitCount = count;
+            revalidate();
+        }
+
+        field.draw(g, this, number, 0, 0);
+    }
+}
\ No newline at end of file
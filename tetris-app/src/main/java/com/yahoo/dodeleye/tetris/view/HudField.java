@@ -0,0 +1,134 @@
+package com.yahoo.dodeleye.tetris.view;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * Draws a number shown on the heads-up display, such as the score or the level.
+ * <p>
+ * The number is drawn from pre-drawn digits into an image of its own, which is only drawn again when the number
+ * changes. Every other frame just copies the image, without formatting any text.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+final class HudField {
+
+    /**
+     * The digits the number is drawn from.
+     */
+    private final DigitGlyphs glyphs;
+
+    /**
+     * The fewest digits the number is shown with, padded with leading zeros.
+     */
+    private final int minDigits;
+
+    /**
+     * The digits of the number last drawn, most significant first. Long enough for any int.
+     */
+    private final int[] digits = new int[10];
+
+    /**
+     * The image of the number last drawn, or null if it has not been drawn yet.
+     */
+    private BufferedImage image;
+
+    /**
+     * The number held by the image.
+     */
+    private int drawnValue;
+
+    /**
+     * Creates a field.
+     *
+     * @param glyphs    the digits to draw the number from.
+     * @param minDigits the fewest digits to show the number with, padded with leading zeros.
+     */
+    HudField(DigitGlyphs glyphs, int minDigits) {
+
+        this.glyphs = glyphs;
+        this.minDigits = minDigits;
+    }
+
+    /**
+     * Draws a number, drawing its image again first if the number has changed.
+     *
+     * @param g     the Graphics object for drawing on.
+     * @param c     the component being drawn on, to create an image suited to its screen.
+     * @param value the number to show, at least 0.
+     * @param x     the x pixel coordinate of the left of the number.
+     * @param y     the y pixel coordinate of the top of the number.
+     */
+    void draw(Graphics g, Component c, int value, int x, int y) {
+
+        if (image == null || value != drawnValue)
+            render(c, value);
+
+        g.drawImage(image, x - DigitGlyphs.PADDING, y, null);
+    }
+
+    /**
+     * Gets the number of digits a number is shown with.
+     *
+     * @param value the number, at least 0.
+     * @return the number of digits, at least the minimum of the field.
+     */
+    int getDigitCount(int value) {
+
+        int count = 1;
+
+        while (value >= 10) {
+            value /= 10;
+            count += 1;
+        }
+
+        return Math.max(count, minDigits);
+    }
+
+    /**
+     * Draws the image of a number.
+     *
+     * @param c     the component being drawn on.
+     * @param value the number to draw, at least 0.
+     */
+    private void render(Component c, int value) {
+
+        int count = getDigitCount(value);
+
+        // Split the number into its digits, from the last to the first.
+        int rest = value;
+        int width = 0;
+
+        for (int i = count - 1; i >= 0; i--) {
+            digits[i] = rest % 10;
+            rest /= 10;
+            width += glyphs.getAdvance(digits[i]);
+        }
+
+        // Only create a new image if the old one is too small, as a number rarely gains digits.
+        int imageWidth = width + DigitGlyphs.PADDING * 2;
+
+        if (image == null || image.getWidth() < imageWidth)
+            image = GamePanel.createLayer(c, imageWidth, glyphs.getHeight());
+
+        Graphics2D g = image.createGraphics();
+
+        // Clear the old number.
+        g.setComposite(AlphaComposite.Clear);
+        g.fillRect(0, 0, image.getWidth(), image.getHeight());
+        g.setComposite(AlphaComposite.SrcOver);
+
+        // Copy in each digit.
+        int x = 0;
+
+        for (int i = 0; i < count; i++) {
+            glyphs.draw(g, digits[i], x, 0);
+            x += glyphs.getAdvance(digits[i]);
+        }
+
+        g.dispose();
+
+        drawnValue = value;
+    }
+}
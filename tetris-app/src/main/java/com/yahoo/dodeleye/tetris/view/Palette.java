@@ -0,0 +1,74 @@
+package com.yahoo.dodeleye.tetris.view;
+
+import com.yahoo.dodeleye.tetris.model.Tetromino;
+
+import java.awt.*;
+
+/**
+ * Holds the colours used to draw each type of tetromino.
+ * <p>
+ * The game logic only keeps track of which type of tetromino each block came from, so the colours are decided here.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+final class Palette {
+
+    /**
+     * The transparency value of ghost pieces to determine their opacity.
+     */
+    private static final int GHOST_ALPHA = 128;
+
+    /**
+     * The colour of each type of tetromino, indexed by the ordinal of the type.
+     */
+    private static final Color[] COLOURS = new Color[Tetromino.Type.values().length];
+
+    /**
+     * The colour of the ghost piece of each type of tetromino, indexed by the ordinal of the type.
+     */
+    private static final Color[] GHOST_COLOURS = new Color[Tetromino.Type.values().length];
+
+    static {
+
+        COLOURS[Tetromino.Type.I.ordinal()] = Color.CYAN;
+        COLOURS[Tetromino.Type.J.ordinal()] = Color.BLUE;
+        COLOURS[Tetromino.Type.L.ordinal()] = Color.ORANGE;
+        COLOURS[Tetromino.Type.O.ordinal()] = Color.YELLOW;
+        COLOURS[Tetromino.Type.S.ordinal()] = Color.GREEN;
+        COLOURS[Tetromino.Type.T.ordinal()] = Color.MAGENTA;
+        COLOURS[Tetromino.Type.Z.ordinal()] = Color.RED;
+
+        // The ghost colours are the same colours, but partly transparent.
+        for (int i = 0; i < COLOURS.length; i++) {
+
+            Color c = COLOURS[i];
+            GHOST_COLOURS[i] = new Color(c.getRed(), c.getGreen(), c.getBlue(), GHOST_ALPHA);
+        }
+    }
+
+    private Palette() {
+    }
+
+    /**
+     * Gets the colour a type of tetromino is drawn with.
+     *
+     * @param type the type of tetromino.
+     * @return the colour of the type of tetromino.
+     */
+    static Color getColour(Tetromino.Type type) {
+
+        return COLOURS[type.ordinal()];
+    }
+
+    /**
+     * Gets the colour the ghost piece of a type of tetromino is drawn with.
+     *
+     * @param type the type of tetromino.
+     * @return the partly transparent colour of the type of tetromino.
+     */
+    static Color getGhostColour(Tetromino.Type type) {
+
+        return GHOST_COLOURS[type.ordinal()];
+    }
+}
@@ -0,0 +1,104 @@
+package com.yahoo.dodeleye.tetris.view;
+
+import com.yahoo.dodeleye.tetris.model.ShapeStructure;
+import com.yahoo.dodeleye.tetris.model.Tetromino;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.List;
+
+/**
+ * Holds the preview image of each type of tetromino, at a single cell size.
+ * <p>
+ * There are only seven shapes, so each image is drawn the first time it is needed and kept, rather than drawn for
+ * every piece that spawns. A preview at another size, such as the smaller pieces further down the Next Queue, uses a
+ * cache of its own.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+final class PreviewCache {
+
+    /**
+     * The width and height of each square unit of a preview, in pixels.
+     */
+    private final int cellSize;
+
+    /**
+     * The preview of each type of tetromino, indexed by the ordinal of the type. Each is null until first needed.
+     */
+    private final BufferedImage[] images = new BufferedImage[Tetromino.Type.values().length];
+
+    /**
+     * Creates an empty cache.
+     *
+     * @param cellSize the width and height of each square unit of a preview, in pixels.
+     */
+    PreviewCache(int cellSize) {
+
+        this.cellSize = cellSize;
+    }
+
+    /**
+     * Gets the preview of a type of tetromino, drawing it first if it has not been needed before.
+     *
+     * @param c    the component the preview will be drawn on, to create an image suited to its screen.
+     * @param type the type of tetromino.
+     * @return the preview image, the size of the tetromino's structure.
+     */
+    BufferedImage get(Component c, Tetromino.Type type) {
+
+        int index = type.ordinal();
+
+        if (images[index] == null)
+            images[index] = createImage(c, ShapeStructure.of(type));
+
+        return images[index];
+    }
+
+    /**
+     * Gets the width and height of each square unit of a preview.
+     *
+     * @return the cell size, in pixels.
+     */
+    int getCellSize() {
+        return cellSize;
+    }
+
+    /**
+     * Creates an image from the structure of a tetromino.
+     *
+     * @param c         the component the image will be drawn on.
+     * @param structure the structure of the tetromimo to create an image from.
+     * @return a new image representing the structure.
+     */
+    private BufferedImage createImage(Component c, ShapeStructure structure) {
+
+        // Get data about the structure - width, height, positions of each unit, and colour.
+        int widthUnits = structure.getWidthUnits();
+        int heightUnits = structure.getHeightUnits();
+        List<int[]> unitPositions = structure.getUnitPositions();
+        Color color = Palette.getColour(structure.getType());
+
+        // Create a blank image matching the size of the structure.
+        BufferedImage image = GamePanel.createLayer(c, widthUnits * cellSize, heightUnits * cellSize);
+
+        // Get the graphics from the new imaage.
+        Graphics g = image.getGraphics();
+
+        // Set the colour to the colour of the structure.
+        g.setColor(color);
+
+        // Loop through each unit position.
+        for (int[] pos : unitPositions) {
+
+            // Fill the image in the region of the unit's position.
+            g.fillRect(pos[0] * cellSize, pos[1] * cellSize, cellSize, cellSize);
+        }
+
+        g.dispose();
+
+        // Finally return the image.
+        return image;
+    }
+}
@@ -0,0 +1,166 @@
+package com.yahoo.dodeleye.tetris.view;
+
+import com.yahoo.dodeleye.tetris.model.FrameSnapshot;
+import com.yahoo.dodeleye.tetris.model.Tetromino;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * Draws a row of pieces further down the Next Queue, composed into a single image.
+ * <p>
+ * Each piece is copied from a {@link PreviewCache} and centred in a slot of its own. The row is only composed again
+ * when the pieces in it change, which is once per piece spawned, so every other frame just copies the one image.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+final class QueueStrip {
+
+    /**
+     * The pixel square size of each unit of the pieces in a strip.
+     */
+    static final int CELL_SIZE = 8;
+
+    /**
+     * The space left below a strip, in pixels.
+     */
+    static final int MARGIN = 10;
+
+    /**
+     * The widest and tallest any tetromino is, in square units.
+     */
+    private static final int MAX_WIDTH_UNITS = 4, MAX_HEIGHT_UNITS = 2;
+
+    /**
+     * The space left between slots, in pixels.
+     */
+    private static final int GAP = 4;
+
+    /**
+     * The previews the pieces are copied from.
+     */
+    private final PreviewCache previews;
+
+    /**
+     * The place in the Next Queue of the first piece shown.
+     */
+    private final int first;
+
+    /**
+     * The types of the pieces last composed into the strip.
+     */
+    private final Tetromino.Type[] shownTypes;
+
+    /**
+     * The width and height of each slot, in pixels.
+     */
+    private final int slotWidth, slotHeight;
+
+    /**
+     * The composed row of pieces, or null until first drawn.
+     */
+    private BufferedImage image;
+
+    /**
+     * Creates a strip.
+     *
+     * @param previews the previews to copy the pieces from, which decide how big they are.
+     * @param first    the place in the Next Queue of the first piece to show.
+     * @param count    the number of pieces to show, at least 1.
+     */
+    QueueStrip(PreviewCache previews, int first, int count) {
+
+        this.previews = previews;
+        this.first = first;
+
+        shownTypes = new Tetromino.Type[count];
+        slotWidth = MAX_WIDTH_UNITS * previews.getCellSize();
+        slotHeight = MAX_HEIGHT_UNITS * previews.getCellSize();
+    }
+
+    /**
+     * Gets the width of the strip.
+     *
+     * @return the width, in pixels.
+     */
+    int getWidth() {
+        return shownTypes.length * (slotWidth + GAP) - GAP;
+    }
+
+    /**
+     * Gets the height of the strip.
+     *
+     * @return the height, in pixels.
+     */
+    int getHeight() {
+        return slotHeight;
+    }
+
+    /**
+     * Draws the pieces of a frame, composing the strip again first if they have changed.
+     *
+     * @param g     the Graphics object for drawing on.
+     * @param c     the component being drawn on, to create images suited to its screen.
+     * @param frame the snapshot holding the Next Queue.
+     * @param x     the x pixel coordinate of the left of the strip.
+     * @param y     the y pixel coordinate of the top of the strip.
+     */
+    void draw(Graphics g, Component c, FrameSnapshot frame, int x, int y) {
+
+        if (image == null || changed(frame))
+            compose(c, frame);
+
+        g.drawImage(image, x, y, null);
+    }
+
+    /**
+     * Checks whether the pieces of a frame differ from those in the strip.
+     *
+     * @param frame the snapshot holding the Next Queue.
+     * @return true if any piece differs, false otherwise.
+     */
+    private boolean changed(FrameSnapshot frame) {
+
+        for (int i = 0; i < shownTypes.length; i++) {
+
+            if (frame.getNextType(first + i) != shownTypes[i])
+                return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Composes the pieces of a frame into the strip.
+     *
+     * @param c     the component being drawn on.
+     * @param frame the snapshot holding the Next Queue.
+     */
+    private void compose(Component c, FrameSnapshot frame) {
+
+        if (image == null)
+            image = GamePanel.createLayer(c, getWidth(), getHeight());
+
+        Graphics2D g = image.createGraphics();
+
+        // Clear the old pieces.
+        g.setComposite(AlphaComposite.Clear);
+        g.fillRect(0, 0, image.getWidth(), image.getHeight());
+        g.setComposite(AlphaComposite.SrcOver);
+
+        for (int i = 0; i < shownTypes.length; i++) {
+
+            shownTypes[i] = frame.getNextType(first + i);
+
+            // Centre the piece in its slot.
+            BufferedImage preview = previews.get(c, shownTypes[i]);
+            int px = i * (slotWidth + GAP) + (slotWidth - preview.getWidth()) / 2;
+            int py = (slotHeight - preview.getHeight()) / 2;
+
+            g.drawImage(preview, px, py, null);
+        }
+
+        g.dispose();
+    }
+}
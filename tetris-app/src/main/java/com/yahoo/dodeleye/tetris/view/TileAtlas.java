@@ -0,0 +1,121 @@
+package com.yahoo.dodeleye.tetris.view;
+
+import com.yahoo.dodeleye.tetris.model.Tetromino;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * Holds a pre-drawn tile for the block and the ghost piece of each type of tetromino, all in a single image.
+ * <p>
+ * The playfield is drawn by copying tiles out of the atlas rather than filling each cell with its colour. The top row
+ * of the atlas holds the blocks and the bottom row the ghost pieces, with a column for each type of tetromino.
+ * </p>
+ * <p>
+ * A ghost piece is only ever drawn over an empty cell, so its partly transparent colour is blended with the panel
+ * colour once, while the atlas is drawn. Every tile is then opaque, and copying one never has to blend pixels.
+ * </p>
+ * <p>
+ * Each tile is kept as a view into the atlas image, so it is copied with a plain, unscaled image draw.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+final class TileAtlas {
+
+    /**
+     * The row of the atlas holding the block tiles.
+     */
+    private static final int BLOCK_ROW = 0;
+
+    /**
+     * The row of the atlas holding the ghost piece tiles.
+     */
+    private static final int GHOST_ROW = 1;
+
+    /**
+     * The width and height of each tile, in pixels.
+     */
+    private final int tileSize;
+
+    /**
+     * The tiles, indexed by row of the atlas and then by the ordinal of the type of tetromino.
+     */
+    private final BufferedImage[][] tiles = new BufferedImage[2][Tetromino.Type.values().length];
+
+    /**
+     * Draws the tiles of an atlas.
+     *
+     * @param c        the component the tiles will be drawn on, to create an image suited to its screen.
+     * @param tileSize the width and height of each tile, in pixels.
+     */
+    TileAtlas(Component c, int tileSize) {
+
+        this.tileSize = tileSize;
+
+        Tetromino.Type[] types = Tetromino.Type.values();
+
+        BufferedImage image = GamePanel.createLayer(c, types.length * tileSize, 2 * tileSize, Transparency.OPAQUE);
+
+        Graphics2D g = image.createGraphics();
+
+        for (Tetromino.Type type : types) {
+
+            int x = type.ordinal() * tileSize;
+
+            // Draw the block tile.
+            drawTile(g, Palette.getColour(type), x, BLOCK_ROW * tileSize);
+
+            // Draw the ghost tile over the panel colour, which is what it would be seen over.
+            g.setColor(GamePanel.PANEL_COLOUR);
+            g.fillRect(x, GHOST_ROW * tileSize, tileSize, tileSize);
+            drawTile(g, Palette.getGhostColour(type), x, GHOST_ROW * tileSize);
+
+            // Keep a view of each tile.
+            tiles[BLOCK_ROW][type.ordinal()] = image.getSubimage(x, BLOCK_ROW * tileSize, tileSize, tileSize);
+            tiles[GHOST_ROW][type.ordinal()] = image.getSubimage(x, GHOST_ROW * tileSize, tileSize, tileSize);
+        }
+
+        g.dispose();
+    }
+
+    /**
+     * Draws a single tile into the atlas. This is the only place the look of a tile is decided.
+     *
+     * @param g      the Graphics object of the atlas.
+     * @param colour the colour of the tile.
+     * @param x      the x pixel coordinate of the top left of the tile.
+     * @param y      the y pixel coordinate of the top left of the tile.
+     */
+    private void drawTile(Graphics2D g, Color colour, int x, int y) {
+
+        g.setColor(colour);
+        g.fillRect(x, y, tileSize, tileSize);
+    }
+
+    /**
+     * Draws the block tile of a type of tetromino.
+     *
+     * @param g    the Graphics object for drawing on.
+     * @param type the type of tetromino the block came from.
+     * @param x    the x pixel coordinate of the top left of the block.
+     * @param y    the y pixel coordinate of the top left of the block.
+     */
+    void drawBlock(Graphics g, Tetromino.Type type, int x, int y) {
+
+        g.drawImage(tiles[BLOCK_ROW][type.ordinal()], x, y, null);
+    }
+
+    /**
+     * Draws the ghost piece tile of a type of tetromino.
+     *
+     * @param g    the Graphics object for drawing on.
+     * @param type the type of tetromino of the ghost piece.
+     * @param x    the x pixel coordinate of the top left of the unit.
+     * @param y    the y pixel coordinate of the top left of the unit.
+     */
+    void drawGhost(Graphics g, Tetromino.Type type, int x, int y) {
+
+        g.drawImage(tiles[GHOST_ROW][type.ordinal()], x, y, null);
+    }
+}
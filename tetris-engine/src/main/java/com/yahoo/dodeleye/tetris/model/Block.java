@@ -1,7 +1,5 @@
 package com.yahoo.dodeleye.tetris.model;
 
-import java.awt.*;
-
 /**
  * Represents a single square unit of a tetromino piece, taking one cell of the playfield.
  *
@@ -16,14 +14,14 @@ class Block {
     // The row index that the block is stored at on the playfield.
     private int y;
 
-    // The colour that the block will be displayed with on the playfield.
-    private Color colour;
+    // The type of tetromino the block came from, which decides how it is displayed on the playfield.
+    private Tetromino.Type type;
 
-    Block(int x, int y, Color colour) {
+    Block(int x, int y, Tetromino.Type type) {
 
         this.x = x;
         this.y = y;
-        this.colour = colour;
+        this.type = type;
     }
 
     /**
@@ -97,12 +95,13 @@ class Block {
     }
 
     /**
-     * Gets the colour of the block.
-     * @return the colour of the block.
+     * Gets the type of tetromino the block came from.
+     * @return the type of tetromino the block came from.
+     * @since 1.2.0
      */
-    Color getColour() {
+    Tetromino.Type getType() {
 
-        return colour;
+        return type;
     }
 
     @Deprecated
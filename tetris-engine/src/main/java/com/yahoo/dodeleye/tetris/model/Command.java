@@ -0,0 +1,59 @@
+package com.yahoo.dodeleye.tetris.model;
+
+/**
+ * The moves a player can make in a game, as single commands.
+ * <p>
+ * Every way of playing a game - the keyboard, a replay, a scripted test or a bot - is turned into a stream of these
+ * commands by a {@link CommandSource}, and applied through {@link GameLogic#apply(Command)}. So the game is always
+ * driven through the same code, whatever is playing it.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+public enum Command {
+
+    /**
+     * Moves the active tetromino one space to the left.
+     */
+    SHIFT_LEFT,
+
+    /**
+     * Moves the active tetromino one space to the right.
+     */
+    SHIFT_RIGHT,
+
+    /**
+     * Moves the active tetromino as far to the left as it can go, as a held shift does with no auto-repeat delay.
+     */
+    SHIFT_LEFT_TO_WALL,
+
+    /**
+     * Moves the active tetromino as far to the right as it can go, as a held shift does with no auto-repeat delay.
+     */
+    SHIFT_RIGHT_TO_WALL,
+
+    /**
+     * Rotates the active tetromino 90 degrees clockwise.
+     */
+    ROTATE_CLOCKWISE,
+
+    /**
+     * Rotates the active tetromino 90 degrees anticlockwise.
+     */
+    ROTATE_ANTICLOCKWISE,
+
+    /**
+     * Starts soft dropping the active tetromino, making it fall faster.
+     */
+    SOFT_DROP_ON,
+
+    /**
+     * Stops soft dropping, so the active tetromino falls at the normal speed.
+     */
+    SOFT_DROP_OFF,
+
+    /**
+     * Drops the active tetromino straight onto its landing row and locks it.
+     */
+    HARD_DROP
+}
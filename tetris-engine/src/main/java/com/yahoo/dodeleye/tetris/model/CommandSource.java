@@ -0,0 +1,29 @@
+package com.yahoo.dodeleye.tetris.model;
+
+/**
+ * Supplies the commands a game is played with, in the order they should be applied.
+ * <p>
+ * The game asks its source for commands through {@link GameLogic#applyCommands(CommandSource)}, passing in the
+ * current game time. The source gives back each command that is due by then, one at a time, and null once there are
+ * none left for now. Sources timed by the game, such as replays, make the game play out exactly the same every time
+ * it is driven through the same steps.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+@FunctionalInterface
+public interface CommandSource {
+
+    /**
+     * A source that never gives any commands.
+     */
+    CommandSource NONE = time -> null;
+
+    /**
+     * Takes the next command that is due.
+     *
+     * @param time the current game time, in nanoseconds since the game started.
+     * @return the next command due by the time, or null if there are none.
+     */
+    Command poll(long time);
+}
@@ -0,0 +1,249 @@
+package com.yahoo.dodeleye.tetris.model;
+
+import com.yahoo.dodeleye.tetris.BlockAlreadyAtPositonException;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+/**
+ * Measures the single-pass line clear compaction of {@link Playfield#shiftRowsDown(int[], int)} against the routine
+ * it replaced, {@link Playfield#shiftRowsDownLegacy(int[], int)}.
+ * <p>
+ * For each stack height and number of lines cleared, a playfield is filled with a stack whose bottom rows have just
+ * been cleared, as they are when the line clear phase ends, and the time and bytes allocated by a single call of each
+ * routine are measured. A fresh playfield is built for every call, outside of what is measured. Before measuring,
+ * both routines are checked to leave exactly the same playfield.
+ * </p>
+ * <p>
+ * Allocation is read from the JVM's per-thread allocation counter, so the JVM must support it (HotSpot does).
+ * Arguments, both optional: the number of measured calls of each routine per case, and the number of warm-up calls.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+public final class CompactionBenchmark {
+
+    /**
+     * The heights of the stacks measured, in rows, counting the cleared rows.
+     */
+    private static final int[] STACK_HEIGHTS = {4, 10, 18};
+
+    /**
+     * The most lines a single piece can clear.
+     */
+    private static final int MAX_LINES = 4;
+
+    /**
+     * The default number of measured calls of each routine per case.
+     */
+    private static final int DEFAULT_ITERATIONS = 20_000;
+
+    /**
+     * The default number of calls of each routine per case before measuring, to let the JIT compile them.
+     */
+    private static final int DEFAULT_WARMUP = 5_000;
+
+    /**
+     * Reads the bytes allocated by the current thread.
+     */
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    /**
+     * The game the playfields are created for. Its own playfield is not used.
+     */
+    private final GameLogic game = new GameLogic(0);
+
+    /**
+     * The time (in nanoseconds) and bytes allocated by measuring nothing, taken off every measurement.
+     */
+    private double timeOverhead, bytesOverhead;
+
+    private CompactionBenchmark() {
+    }
+
+    /**
+     * Runs the benchmark and prints a table of the results.
+     *
+     * @param args the number of measured calls per case, and the number of warm-up calls, both optional.
+     * @throws BlockAlreadyAtPositonException never, as each stack is built on an empty playfield.
+     */
+    public static void main(String[] args) throws BlockAlreadyAtPositonException {
+
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_ITERATIONS;
+        int warmup = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_WARMUP;
+
+        CompactionBenchmark benchmark = new CompactionBenchmark();
+        benchmark.calibrate(iterations);
+
+        // Check and warm up both routines on every case before measuring any of them.
+        for (int height : STACK_HEIGHTS) {
+
+            for (int lines = 1; lines <= MAX_LINES; lines++) {
+
+                benchmark.check(height, lines);
+                benchmark.measure(height, lines, true, warmup);
+                benchmark.measure(height, lines, false, warmup);
+            }
+        }
+
+        System.out.printf("%6s %5s | %12s %12s | %12s %12s%n",
+                "height", "lines", "legacy ns", "legacy bytes", "single ns", "single bytes");
+
+        for (int height : STACK_HEIGHTS) {
+
+            for (int lines = 1; lines <= MAX_LINES; lines++) {
+
+                double[] legacy = benchmark.measure(height, lines, true, iterations);
+                double[] single = benchmark.measure(height, lines, false, iterations);
+
+                System.out.printf("%6d %5d | %12.1f %12.1f | %12.1f %12.1f%n",
+                        height, lines, legacy[0], legacy[1], single[0], single[1]);
+            }
+        }
+    }
+
+    /**
+     * Measures the time and allocation of measuring an empty region, to take off every measurement.
+     *
+     * @param iterations the number of empty regions to measure.
+     */
+    private void calibrate(int iterations) {
+
+        long threadId = Thread.currentThread().getId();
+        long time = 0, bytes = 0;
+
+        for (int i = 0; i < iterations * 2; i++) {
+
+            long bytesBefore = THREADS.getThreadAllocatedBytes(threadId);
+            long timeBefore = System.nanoTime();
+
+            long timeAfter = System.nanoTime();
+            long bytesAfter = THREADS.getThreadAllocatedBytes(threadId);
+
+            // Only keep the second half, once the region has been compiled.
+            if (i >= iterations) {
+                time += timeAfter - timeBefore;
+                bytes += bytesAfter - bytesBefore;
+            }
+        }
+
+        timeOverhead = (double) time / iterations;
+        bytesOverhead = (double) bytes / iterations;
+    }
+
+    /**
+     * Measures the average time and allocation of one of the routines.
+     *
+     * @param height     the height of the stack, counting the cleared rows.
+     * @param lines      the number of lines cleared, at the bottom of the stack.
+     * @param legacy     true to measure the legacy routine, false to measure the single-pass routine.
+     * @param iterations the number of calls to measure.
+     * @return the average time (in nanoseconds) and the average bytes allocated by a call.
+     * @throws BlockAlreadyAtPositonException never, as each stack is built on an empty playfield.
+     */
+    private double[] measure(int height, int lines, boolean legacy, int iterations)
+            throws BlockAlreadyAtPositonException {
+
+        long threadId = Thread.currentThread().getId();
+        int[] fullRows = new int[MAX_LINES];
+        long time = 0, bytes = 0;
+
+        for (int i = 0; i < iterations; i++) {
+
+            Playfield field = createStack(height, lines, fullRows);
+
+            long bytesBefore = THREADS.getThreadAllocatedBytes(threadId);
+            long timeBefore = System.nanoTime();
+
+            if (legacy)
+                field.shiftRowsDownLegacy(fullRows, lines);
+            else
+                field.shiftRowsDown(fullRows, lines);
+
+            long timeAfter = System.nanoTime();
+            long bytesAfter = THREADS.getThreadAllocatedBytes(threadId);
+
+            time += timeAfter - timeBefore;
+            bytes += bytesAfter - bytesBefore;
+        }
+
+        return new double[]{
+                Math.max(0, (double) time / iterations - timeOverhead),
+                Math.max(0, (double) bytes / iterations - bytesOverhead)
+        };
+    }
+
+    /**
+     * Checks that both routines leave the same playfield.
+     *
+     * @param height the height of the stack, counting the cleared rows.
+     * @param lines  the number of lines cleared, at the bottom of the stack.
+     * @throws BlockAlreadyAtPositonException never, as each stack is built on an empty playfield.
+     */
+    private void check(int height, int lines) throws BlockAlreadyAtPositonException {
+
+        int[] fullRows = new int[MAX_LINES];
+
+        Playfield legacy = createStack(height, lines, fullRows);
+        legacy.shiftRowsDownLegacy(fullRows, lines);
+
+        Playfield single = createStack(height, lines, fullRows);
+        single.shiftRowsDown(fullRows, lines);
+
+        // The grids can only be read with a piece in play, so spawn the same piece on both.
+        legacy.setTetromino(Tetromino.Type.O);
+        single.setTetromino(Tetromino.Type.O);
+
+        boolean same = Arrays.deepEquals(legacy.getCellGrid(), single.getCellGrid())
+                && legacy.getStackHeight() == single.getStackHeight();
+
+        // Every row mask, including the sentinel rows around the playfield, should match.
+        for (int y = -MAX_LINES; y < legacy.getCellGrid().length + MAX_LINES; y++)
+            same &= legacy.getRowMask(y) == single.getRowMask(y);
+
+        if (!same)
+            throw new IllegalStateException(
+                    "The routines left different playfields for a height of " + height + " and " + lines + " lines");
+    }
+
+    /**
+     * Creates a playfield holding a stack whose bottom rows have just been cleared.
+     * <p>
+     * Every other row of the stack has a single gap, in a different column on each row, so that it is not full.
+     * </p>
+     *
+     * @param height   the height of the stack, counting the cleared rows.
+     * @param lines    the number of lines cleared, at the bottom of the stack.
+     * @param fullRows the array to fill with the indexes of the cleared rows, in ascending order.
+     * @return the new playfield.
+     * @throws BlockAlreadyAtPositonException never, as the stack is built on an empty playfield.
+     */
+    private Playfield createStack(int height, int lines, int[] fullRows) throws BlockAlreadyAtPositonException {
+
+        Playfield field = new Playfield(game);
+
+        int gridHeight = Playfield.HIDDEN_ROWS + Playfield.getVisibleGridHeight();
+        int gridWidth = Playfield.getGridWidth();
+        Tetromino.Type[] types = Tetromino.Type.values();
+
+        for (int y = gridHeight - height; y < gridHeight; y++) {
+
+            // The cleared rows are left empty, as the line clear phase has already removed their blocks.
+            if (y >= gridHeight - lines) {
+                fullRows[y - (gridHeight - lines)] = y;
+                continue;
+            }
+
+            int gap = (y * 3) % gridWidth;
+
+            for (int x = 0; x < gridWidth; x++) {
+
+                if (x != gap)
+                    field.addBlock(new Block(x, y, types[(x + y) % types.length]));
+            }
+        }
+
+        return field;
+    }
+}
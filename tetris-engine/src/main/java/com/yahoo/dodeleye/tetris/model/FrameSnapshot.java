@@ -0,0 +1,274 @@
+package com.yahoo.dodeleye.tetris.model;
+
+import java.util.Arrays;
+
+/**
+ * Holds a copy of everything needed to draw a single frame of a game.
+ * <p>
+ * A snapshot is filled in by the game thread from a consistent state of the game, so it never shows a row half
+ * shifted or a ghost piece that does not match the tetromino. It is then handed over to the view through a
+ * {@link SnapshotBuffer}, and is only read from once published. Snapshots are reused rather than created for every
+ * frame, so nothing should hold on to one after taking a newer one from the buffer.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+public final class FrameSnapshot {
+
+    /**
+     * The number of the snapshot, counting only snapshots that differ from the one before. Later snapshots have
+     * higher numbers.
+     * <p>
+     * It is read by the view thread to decide whether a newer snapshot is waiting, so it is volatile.
+     * </p>
+     */
+    private volatile long frame;
+
+    /**
+     * The type of tetromino each block on the playfield came from, including the active tetromino.
+     */
+    private final Tetromino.Type[][] cells =
+            new Tetromino.Type[Playfield.HIDDEN_ROWS + Playfield.getVisibleGridHeight()][Playfield.getGridWidth()];
+
+    /**
+     * The coordinates of each square unit of the ghost piece.
+     */
+    private final int[][] ghostCoordinates = new int[4][2];
+
+    /**
+     * The number of square units of the ghost piece, or 0 when there is no active tetromino.
+     */
+    private int ghostCellCount;
+
+    /**
+     * The type of the tetromino the ghost piece shadows.
+     */
+    private Tetromino.Type ghostType;
+
+    /**
+     * The structure of the next tetromino to spawn.
+     */
+    private ShapeStructure nextStructure;
+
+    /**
+     * The types of the tetrominoes waiting in the Next Queue, from the next to spawn.
+     */
+    private final Tetromino.Type[] nextTypes = new Tetromino.Type[GameLogic.NEXT_QUEUE_LENGTH];
+
+    /**
+     * The scores and counters of the game.
+     */
+    private int score, highScore, lines, level;
+
+    /**
+     * Whether the game had ended.
+     */
+    private boolean gameOver;
+
+    FrameSnapshot() {
+    }
+
+    /**
+     * Fills the snapshot from the current state of a game.
+     *
+     * @param game the game to copy.
+     * @param grid the playfield of the game.
+     */
+    void copy(GameLogic game, Playfield grid) {
+
+        grid.copyCellGrid(cells);
+
+        // Copy the ghost piece, if there is one.
+        GhostStructure ghost = grid.getGhostStructure();
+
+        if (ghost != null) {
+
+            for (int i = 0; i < ghostCoordinates.length; i++) {
+
+                int[] pos = ghost.getPositions().get(i);
+                ghostCoordinates[i][0] = pos[0];
+                ghostCoordinates[i][1] = pos[1];
+            }
+
+            ghostCellCount = ghostCoordinates.length;
+            ghostType = ghost.getType();
+
+        } else {
+            ghostCellCount = 0;
+            ghostType = null;
+        }
+
+        nextStructure = game.getNextStructure();
+
+        for (int i = 0; i < nextTypes.length; i++)
+            nextTypes[i] = game.getNextType(i);
+
+        score = game.getCurrentScore();
+        highScore = game.getHighScore();
+        lines = game.getNumOfLines();
+        level = game.getLevel();
+        gameOver = game.checkGameOver();
+    }
+
+    /**
+     * Sets the number of the snapshot. It should be set only once everything else is in place.
+     *
+     * @param frame the number of the snapshot.
+     */
+    void setFrame(long frame) {
+        this.frame = frame;
+    }
+
+    /**
+     * Checks whether the snapshot would be drawn exactly the same as another one.
+     *
+     * @param other the snapshot to compare with.
+     * @return true if everything shown by the snapshots is the same, false otherwise.
+     */
+    boolean looksSameAs(FrameSnapshot other) {
+
+        if (score != other.score || highScore != other.highScore || lines != other.lines || level != other.level
+                || gameOver != other.gameOver || nextStructure != other.nextStructure
+                || ghostCellCount != other.ghostCellCount || ghostType != other.ghostType
+                || !Arrays.equals(nextTypes, other.nextTypes))
+            return false;
+
+        for (int i = 0; i < ghostCellCount; i++) {
+
+            if (!Arrays.equals(ghostCoordinates[i], other.ghostCoordinates[i]))
+                return false;
+        }
+
+        for (int r = 0; r < cells.length; r++) {
+
+            if (!Arrays.equals(cells[r], other.cells[r]))
+                return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Gets the number of the snapshot. Snapshots are only numbered when they differ from the one before.
+     *
+     * @return the frame number.
+     */
+    public long getFrame() {
+        return frame;
+    }
+
+    /**
+     * Gets the matrix holding the type of tetromino each block on the playfield came from.
+     * <p>
+     * Empty cells hold null. The matrix belongs to the snapshot and must not be changed.
+     * </p>
+     *
+     * @return The block type matrix of the playfield.
+     */
+    public Tetromino.Type[][] getCellMatrix() {
+        return cells;
+    }
+
+    /**
+     * Gets the number of square units of the ghost piece.
+     *
+     * @return the number of square units, or 0 if there is no ghost piece.
+     */
+    public int getGhostCellCount() {
+        return ghostCellCount;
+    }
+
+    /**
+     * Gets the x-position of a square unit of the ghost piece.
+     *
+     * @param i the index of the square unit.
+     * @return the column the square unit is on.
+     */
+    public int getGhostX(int i) {
+        return ghostCoordinates[i][0];
+    }
+
+    /**
+     * Gets the y-position of a square unit of the ghost piece.
+     *
+     * @param i the index of the square unit.
+     * @return the row the square unit is on.
+     */
+    public int getGhostY(int i) {
+        return ghostCoordinates[i][1];
+    }
+
+    /**
+     * Gets the type of the tetromino the ghost piece shadows.
+     *
+     * @return the type of the tetromino, or null if there is no ghost piece.
+     */
+    public Tetromino.Type getGhostType() {
+        return ghostType;
+    }
+
+    /**
+     * Gets the structure of the next tetromino to spawn.
+     *
+     * @return the structure of the next tetromino.
+     */
+    public ShapeStructure getNextStructure() {
+        return nextStructure;
+    }
+
+    /**
+     * Gets the type of a tetromino waiting in the Next Queue.
+     *
+     * @param index the place of the tetromino in the queue, from 0 for the next to spawn up to
+     *              {@link GameLogic#NEXT_QUEUE_LENGTH} - 1.
+     * @return the type of the tetromino.
+     */
+    public Tetromino.Type getNextType(int index) {
+        return nextTypes[index];
+    }
+
+    /**
+     * Gets the score of the game.
+     *
+     * @return the current score.
+     */
+    public int getCurrentScore() {
+        return score;
+    }
+
+    /**
+     * Gets the best score from previous games.
+     *
+     * @return the high score.
+     */
+    public int getHighScore() {
+        return highScore;
+    }
+
+    /**
+     * Gets the number of lines cleared.
+     *
+     * @return the number of lines cleared.
+     */
+    public int getNumOfLines() {
+        return lines;
+    }
+
+    /**
+     * Gets the level of the game.
+     *
+     * @return the current level.
+     */
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * Checks whether the game had ended.
+     *
+     * @return true if the game had ended, false otherwise.
+     */
+    public boolean checkGameOver() {
+        return gameOver;
+    }
+}
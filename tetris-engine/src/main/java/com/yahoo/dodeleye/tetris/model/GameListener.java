@@ -0,0 +1,72 @@
+package com.yahoo.dodeleye.tetris.model;
+
+/**
+ * Receives the events of a game as they happen.
+ * <p>
+ * The game logic has no side effects of its own - it does not play sounds or write any files. Anything that should
+ * happen in response to the game, such as playing a sound effect or saving the final score, is done by the listener
+ * passed to the {@link GameLogic} instance. Every method does nothing by default, so a listener only needs to
+ * override the events it cares about.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+public interface GameListener {
+
+    /**
+     * A listener that ignores every event, for games that run without a front end.
+     */
+    GameListener NONE = new GameListener() {
+    };
+
+    /**
+     * Called when the active tetromino is shifted one space to the left or right.
+     */
+    default void onPieceMoved() {
+    }
+
+    /**
+     * Called when the active tetromino is rotated.
+     */
+    default void onPieceRotated() {
+    }
+
+    /**
+     * Called when the active tetromino locks onto the playfield.
+     *
+     * @param fastDrop true if the tetromino was locked early by soft or hard drop, false if it locked after the
+     *                 lock delay.
+     */
+    default void onPieceLanded(boolean fastDrop) {
+    }
+
+    /**
+     * Called when full rows begin to be cleared from the playfield.
+     *
+     * @param lines the number of rows being cleared.
+     */
+    default void onLinesCleared(int lines) {
+    }
+
+    /**
+     * Called when the game moves up a level.
+     *
+     * @param level the new level of the game.
+     */
+    default void onLevelUp(int level) {
+    }
+
+    /**
+     * Called when the game over sequence starts emptying the playfield.
+     */
+    default void onGameOver() {
+    }
+
+    /**
+     * Called once the game has ended, after the game over sequence.
+     *
+     * @param finalScore the score the player ended the game with.
+     */
+    default void onGameEnded(int finalScore) {
+    }
+}
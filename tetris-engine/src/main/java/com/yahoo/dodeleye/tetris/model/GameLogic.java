@@ -0,0 +1,731 @@
+package com.yahoo.dodeleye.tetris.model;
+
+/**
+ * Represents the model component of the game, covering all the game logic.
+ * <p>
+ * It runs without AWT, sound or file I/O. Sound effects, saving scores and other side effects are left to the
+ * {@link GameListener} passed in when the game is created.
+ * </p>
+ *
+ * @version 1.0.1
+ * @since 1.0.0
+ */
+public class GameLogic {
+
+    /**
+     * The number of pieces waiting in the Next Queue, which can be previewed ahead of spawning.
+     *
+     * @since 1.2.0
+     */
+    public static final int NEXT_QUEUE_LENGTH = 5;
+
+    /**
+     * The current score the player has reached in the game.
+     */
+    private int currentScore = 0;
+    /**
+     * The all-time best score obtained by a player
+     */
+    private int highScore;
+    /**
+     * The number of full rows of blocks cleared from the grid.
+     */
+    private int lines = 0;
+    /**
+     * The current level of the game.
+     * <p>
+     * The higher the level, the faster the tetromino piece will fall.
+     * </p>
+     */
+    private int level;
+    /**
+     * The lines required to reach the next level.
+     */
+    private int linesToNextLevel;
+    /**
+     * A counter to determine how many lines left to reach next level.
+     */
+    private int linesLeft;
+
+    /**
+     * The time it takes for a piece to fall a single row at each level.
+     */
+    private final GravityTable gravityTable;
+
+    /**
+     * How the controls of the game respond to the player.
+     */
+    private final Handling handling;
+
+    /**
+     * The number of tetromino pieces that have locked onto the playfield.
+     */
+    private int piecesPlaced = 0;
+
+    /**
+     * Is a Tetris game being played at the moment?
+     */
+    private boolean gamePlaying;
+
+    /**
+     * The types of the next tetromino pieces, waiting to spawn after the current one in turn.
+     * <p>
+     * It is a ring, with the next piece to spawn at {@link #queueHead}. Taking pieces from the randomizer ahead of
+     * time does not change the order they spawn in, so the length of the queue has no effect on the game.
+     * </p>
+     */
+    private final Tetromino.Type[] nextQueue = new Tetromino.Type[NEXT_QUEUE_LENGTH];
+
+    /**
+     * The index of the next piece to spawn in the queue.
+     */
+    private int queueHead;
+
+    /**
+     * The game time, in nanoseconds since the game started.
+     */
+    private long time;
+
+    /**
+     * Receives the events of the game, to handle any side effects such as sound.
+     */
+    private final GameListener listener;
+
+    /**
+     * The playfield where the game takes place on.
+     */
+    private Playfield grid;
+
+    /**
+     * Decides the order that the tetromino pieces are generated in.
+     */
+    private final Randomizer randomizer;
+
+    /**
+     * Creates a game with no listener and no previous high score, such as for a simulated game.
+     *
+     * @since 1.2.0
+     */
+    public GameLogic() {
+
+        this(GameListener.NONE, 0);
+    }
+
+    /**
+     * Creates a game with no listener and no previous high score, whose pieces are decided by a seed.
+     * <p>
+     * Two games created with the same seed and given the same inputs will play out exactly the same.
+     * </p>
+     *
+     * @param seed the seed deciding the order of the pieces.
+     * @since 1.2.0
+     */
+    public GameLogic(long seed) {
+
+        this(GameListener.NONE, 0, new SevenBagRandomizer(seed));
+    }
+
+    /**
+     * Creates a game whose pieces are generated from a randomly seeded 7-bag.
+     *
+     * @param listener  receives the events of the game.
+     * @param highScore the best score from previous games, shown alongside the current score.
+     * @since 1.2.0
+     */
+    public GameLogic(GameListener listener, int highScore) {
+
+        this(listener, highScore, new SevenBagRandomizer());
+    }
+
+    /**
+     * Creates a game.
+     *
+     * @param listener   receives the events of the game.
+     * @param highScore  the best score from previous games, shown alongside the current score.
+     * @param randomizer decides the order the pieces are generated in. It should not be shared with another game.
+     * @since 1.2.0
+     */
+    public GameLogic(GameListener listener, int highScore, Randomizer randomizer) {
+
+        this(listener, highScore, randomizer, Ruleset.STANDARD);
+    }
+
+    /**
+     * Creates a game.
+     *
+     * @param listener   receives the events of the game.
+     * @param highScore  the best score from previous games, shown alongside the current score.
+     * @param randomizer decides the order the pieces are generated in. It should not be shared with another game.
+     * @param ruleset    the rules the game is played with.
+     * @since 1.2.0
+     */
+    public GameLogic(GameListener listener, int highScore, Randomizer randomizer, Ruleset ruleset) {
+
+        this(listener, highScore, randomizer, ruleset, Handling.STANDARD);
+    }
+
+    /**
+     * Creates a game.
+     *
+     * @param listener   receives the events of the game.
+     * @param highScore  the best score from previous games, shown alongside the current score.
+     * @param randomizer decides the order the pieces are generated in. It should not be shared with another game.
+     * @param ruleset    the rules the game is played with.
+     * @param handling   how the controls of the game respond to the player.
+     * @since 1.2.0
+     */
+    public GameLogic(GameListener listener, int highScore, Randomizer randomizer, Ruleset ruleset,
+                     Handling handling) {
+
+        this.listener = listener;
+        this.highScore = highScore;
+        this.randomizer = randomizer;
+
+        // Take the level settings from the ruleset.
+        level = ruleset.getStartLevel();
+        linesToNextLevel = ruleset.getLinesPerLevel();
+        gravityTable = ruleset.getGravity();
+
+        this.handling = handling;
+
+        // Create the playfield once the listener is available to it.
+        grid = new Playfield(this);
+
+        gamePlaying = true;
+
+        // Spawn the first tetromino in the bag onto the grid.
+        grid.setTetromino(generateNextPiece());
+
+        // Hold the next tetrominoes to be spawned on the grid.
+        for (int i = 0; i < nextQueue.length; i++)
+            nextQueue[i] = generateNextPiece();
+
+        // Initialise the remaining lines left to be cleared.
+        linesLeft = linesToNextLevel;
+
+    }
+
+    /**
+     * Updaes the status of the game model.
+     *
+     * @param dt the time interval that has passed in seconds.
+     */
+    public void update(double dt) {
+
+        // Round to whole nanoseconds, which the game keeps time in.
+        updateNanos(Math.round(dt * GravityTable.NANOS_PER_SECOND));
+    }
+
+    /**
+     * Updates the status of the game model by an exact number of nanoseconds.
+     * <p>
+     * The game keeps time only in whole nanoseconds, so the same updates and inputs always give exactly the same game.
+     * Replays and simulations should use this rather than {@link #update(double)}.
+     * </p>
+     *
+     * @param nanos the time interval that has passed in nanoseconds.
+     * @since 1.2.0
+     */
+    public void updateNanos(long nanos) {
+
+        time += nanos;
+
+        if (gamePlaying)
+            grid.update(nanos);
+    }
+
+    /**
+     * Gets the game time, the total of every update so far.
+     *
+     * @return the time in nanoseconds since the game started.
+     * @since 1.2.0
+     */
+    public long getTime() {
+        return time;
+    }
+
+    /**
+     * Applies every command that a source has due by the current game time, in order.
+     *
+     * @param source the source of the commands.
+     * @return the number of commands applied.
+     * @since 1.2.0
+     */
+    public int applyCommands(CommandSource source) {
+
+        int count = 0;
+
+        for (Command command = source.poll(time); command != null; command = source.poll(time)) {
+            apply(command);
+            count += 1;
+        }
+
+        return count;
+    }
+
+    /**
+     * Makes a single move in the game.
+     *
+     * @param command the move to make.
+     * @since 1.2.0
+     */
+    public void apply(Command command) {
+
+        switch (command) {
+
+            case SHIFT_LEFT:
+                shiftTetrominoLeft();
+                break;
+
+            case SHIFT_RIGHT:
+                shiftTetrominoRight();
+                break;
+
+            case SHIFT_LEFT_TO_WALL:
+                shiftTetrominoToLeftWall();
+                break;
+
+            case SHIFT_RIGHT_TO_WALL:
+                shiftTetrominoToRightWall();
+                break;
+
+            case ROTATE_CLOCKWISE:
+                rotateClockwise();
+                break;
+
+            case ROTATE_ANTICLOCKWISE:
+                rotateAnticlockwise();
+                break;
+
+            case SOFT_DROP_ON:
+                activateSoftDrop();
+                break;
+
+            case SOFT_DROP_OFF:
+                deactivateSoftDrop();
+                break;
+
+            case HARD_DROP:
+                hardDrop();
+                break;
+        }
+    }
+
+    /**
+     * Gets the time until the game next changes something by itself, if there are no inputs.
+     * <p>
+     * Updating the game by this time moves it straight to its next event, such as the active tetromino falling a
+     * row or locking, or the next piece spawning. It allows a game without a player to skip over the time in between.
+     * </p>
+     *
+     * @return the time (in nanoseconds) until the next event, or {@link Long#MAX_VALUE} if the game has ended.
+     * @since 1.2.0
+     */
+    public long getTimeToNextEvent() {
+
+        if (!gamePlaying)
+            return Long.MAX_VALUE;
+
+        return grid.getTimeToNextEvent();
+    }
+
+    /**
+     * Gets the matrix holding the type of tetromino each block on the playfield came from.
+     * <p>
+     * Empty cells hold null. It is up to the view to decide how each type is drawn.
+     * </p>
+     *
+     * @return The block type matrix of the playfield.
+     * @since 1.2.0
+     */
+    public Tetromino.Type[][] getCellMatrix() {
+        return grid.getCellGrid();
+    }
+
+    /**
+     * Fills a snapshot from the current state of the game.
+     *
+     * @param snapshot the snapshot to fill.
+     * @since 1.2.0
+     */
+    void copySnapshot(FrameSnapshot snapshot) {
+        snapshot.copy(this, grid);
+    }
+
+    /**
+     * Gets the number of lines that have been cleared since the beginning of the game.
+     *
+     * @return the number of lines cleared.
+     */
+    public int getNumOfLines() {
+
+        return lines;
+    }
+
+    /**
+     * Gets the current level of the game.
+     *
+     * @return the current level of the game.
+     */
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * Gets the number of tetromino pieces that have locked onto the playfield since the beginning of the game.
+     *
+     * @return the number of pieces placed.
+     * @since 1.2.0
+     */
+    public int getPiecesPlaced() {
+        return piecesPlaced;
+    }
+
+    /**
+     * Gets the player's current score.
+     *
+     * @return the player's current score.
+     */
+    public int getCurrentScore() {
+        return currentScore;
+    }
+
+    /**
+     * Gets the high score of the game.
+     *
+     * @return the high score of the game.
+     */
+    public int getHighScore() {
+        return highScore;
+    }
+
+    /**
+     * Gets the ghost piece of the active tetromino on the playfield
+     * @return the ghost piece of the active tetromino on the playfield
+     * @since 1.1.0
+     */
+    public GhostStructure getGhostStructure(){
+        return grid.getGhostStructure();
+    }
+
+    /**
+     * Gets the listener receiving the events of the game.
+     *
+     * @return the listener of the game.
+     * @since 1.2.0
+     */
+    GameListener getListener() {
+        return listener;
+    }
+
+    /**
+     * Takes the type of the next tetromino piece from the randomizer.
+     */
+    private Tetromino.Type generateNextPiece() {
+
+        return randomizer.next();
+    }
+
+    /**
+     * Calculates the gravity speed of the playfield based on the current game level.
+     *
+     * @return the current gravity speed of the grid, as the time (in nanoseconds) to fall a single row, or 0 for 20G.
+     */
+    long calculateGravity() {
+
+        return gravityTable.getRowDelay(level);
+    }
+
+    /**
+     * Calculates the gravity speed of the playfield while soft dropping, from the soft drop factor of the handling.
+     *
+     * @return the soft drop gravity speed, as the time (in nanoseconds) to fall a single row, or 0 for 20G.
+     * @since 1.2.0
+     */
+    long calculateSoftDropGravity() {
+
+        return calculateGravity() / handling.getSoftDropFactor();
+    }
+
+    /**
+     * Gets how the controls of the game respond to the player.
+     *
+     * @return the handling of the game.
+     * @since 1.2.0
+     */
+    public Handling getHandling() {
+        return handling;
+    }
+
+    /**
+     * Spawns the next tetromino onto the playfield.
+     */
+    void setActiveTetromino() {
+
+        // Hold the next tetromino piece to be spawned.
+        Tetromino.Type nextTetromino = nextQueue[queueHead];
+
+        // Replace it at the back of the Next Queue, which the head then moves past.
+        nextQueue[queueHead] = generateNextPiece();
+        queueHead = (queueHead + 1) % nextQueue.length;
+
+        // Spawn the held tetromino piece onto the grid.
+        grid.setTetromino(nextTetromino);
+
+    }
+
+    /**
+     * Gets the structure of the next tetromino piece.
+     *
+     * @return the structure of the next tetromino piece.
+     */
+    public ShapeStructure getNextStructure() {
+
+        return ShapeTable.getStructure(getNextType(0));
+
+    }
+
+    /**
+     * Gets the type of a tetromino piece waiting in the Next Queue.
+     *
+     * @param index the place of the piece in the queue, from 0 for the next piece to spawn up to
+     *              {@link #NEXT_QUEUE_LENGTH} - 1.
+     * @return the type of the piece.
+     * @since 1.2.0
+     */
+    public Tetromino.Type getNextType(int index) {
+
+        if (index < 0 || index >= nextQueue.length)
+            throw new IndexOutOfBoundsException("No piece at place " + index + " of the next queue");
+
+        return nextQueue[(queueHead + index) % nextQueue.length];
+    }
+
+    /**
+     * Moves the active tetromino piece on the plq6ri3le one space to the left.
+     */
+    public void shiftTetrominoLeft() {
+
+        if (gamePlaying)
+            grid.shiftTetrominoLeft();
+    }
+
+    /**
+     * Moves the active tetromino piece on the plq6ri3le one space to the right.
+     */
+    public void shiftTetrominoRight() {
+
+        if (gamePlaying)
+            grid.shiftTetrominoRight();
+    }
+
+    /**
+     * Moves the active tetromino piece on the playfield as far to the left as it can go, in a single move.
+     *
+     * @since 1.2.0
+     */
+    public void shiftTetrominoToLeftWall() {
+
+        if (gamePlaying)
+            grid.shiftTetrominoToWall(-1);
+    }
+
+    /**
+     * Moves the active tetromino piece on the playfield as far to the right as it can go, in a single move.
+     *
+     * @since 1.2.0
+     */
+    public void shiftTetrominoToRightWall() {
+
+        if (gamePlaying)
+            grid.shiftTetrominoToWall(1);
+    }
+
+    /**
+     * Rotates the active tetromion piece on the playfield 90 degrees clockwise.
+     */
+    public void rotateClockwise() {
+
+        if (gamePlaying)
+            grid.rotateClockwise();
+    }
+
+    /**
+     * Rotates the active tetromion piece on the playfield 90 degrees anticlockwise.
+     */
+    public void rotateAnticlockwise() {
+
+        if (gamePlaying)
+            grid.rotateAnticlockwise();
+    }
+
+    /**
+     * Increases the rate at which the active tetromino piece falls down.
+     */
+    public void activateSoftDrop() {
+
+        if (gamePlaying)
+            grid.activateSoftDrop();
+    }
+
+    /**
+     * Sets the gravity of the active tetrmino piece back to normal.
+     */
+    public void deactivateSoftDrop() {
+
+        if (gamePlaying)
+            grid.deactivateSoftDrop();
+    }
+
+    /**
+     * Counts a tetromino piece that has locked onto the playfield.
+     */
+    void addPlacedPiece() {
+
+        piecesPlaced += 1;
+    }
+
+    /**
+     * Adds a point to the total score due to soft dropping.
+     * <p>
+     * Should be called for each time the piece falls down one cell due to soft drop.
+     * </p>
+     */
+    void addSoftDropPoints() {
+
+        // Points gained = n, where n is the number of cells fallen while soft dropping.
+        currentScore += 1;
+    }
+
+    /**
+     * Adds points to the total score due to hard dropping.
+     * <p>
+     * Should be called once for each hard drop, with the number of cells the piece fell.
+     * </p>
+     *
+     * @param cells the number of cells the piece fell due to hard drop.
+     */
+    void addHardDropPoints(int cells) {
+
+        // Points gained = 2n, where n is the number of cells fallen while hard dropping.
+        currentScore += 2 * cells;
+    }
+
+    /**
+     * Increases the number of lines cleared on the playfield.
+     * <p>
+     * The level will be rechecked, and the current score will be updated.
+     * </p>
+     *
+     * @param n the number of lines that were cleared.
+     */
+    void increaseLines(int n) {
+
+        // Add the lines.
+        lines += n;
+
+        // Increase the score based on the number of lines cleared.
+        scoreLines(n);
+
+        // Check whether the game should increase the level.
+        updateLevel(n);
+
+
+    }
+
+    /**
+     * Takes the number of lines cleared to check whether the the level should increase.
+     *
+     * @param linesCleared the number of lines that were cleared.
+     */
+    private void updateLevel(int linesCleared) {
+
+        // Repeat as many times as the number of lines that were cleared.
+        for (int i = 0; i < linesCleared; i++) {
+
+            // Decrement the number of lines needed to level up.
+            linesLeft -= 1;
+
+            // Check if enough lines have been cleared to level up.
+            if (linesLeft == 0) {
+                // Increase the level.
+                level += 1;
+                // Reset the lines needed for the next level.
+                linesLeft = linesToNextLevel;
+
+                // Let the listener know of the new level.
+                listener.onLevelUp(level);
+            }
+        }
+    }
+
+    /**
+     * Calculates the points gained from clearing lines, and adds them to the current score.
+     *
+     * @param linesCleared the number of lines that were cleared.
+     */
+    private void scoreLines(int linesCleared) {
+
+        // Will hold the score modifier.
+        int scoreModifier;
+
+        /*
+         * SCORE MODIFIERS:
+         *
+         * 40   points for 1 line.
+         * 100  points for 2 lines.
+         * 300  points for 3 lines.
+         * 1200 points for 4 lines (maximun possible).
+         */
+        switch (linesCleared) {
+
+            case 1:
+                scoreModifier = 40;
+                break;
+
+            case 2:
+                scoreModifier = 100;
+                break;
+
+            case 3:
+                scoreModifier = 300;
+                break;
+
+            case 4:
+                scoreModifier = 1200;
+                break;
+
+            // If the number of points gained is invalid, the result will be zero.
+            default:
+                scoreModifier = 0;
+        }
+
+        // Add the points to the score. The points gained is directly proportional to the current level.
+        currentScore += scoreModifier * level;
+    }
+
+    void gameOver() {
+
+        gamePlaying = false;
+        listener.onGameEnded(currentScore);
+    }
+
+    /**
+     * Applies hard drop to the playfield.
+     */
+    public void hardDrop() {
+
+        grid.hardDrop();
+    }
+
+    /**
+     * Checks whether the game is has ended.
+     *
+     * @return true if the game has ended, false otherwise.
+     */
+    public boolean checkGameOver() {
+
+        return !gamePlaying;
+    }
+
+}
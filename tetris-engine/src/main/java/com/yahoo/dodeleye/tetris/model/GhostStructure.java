@@ -0,0 +1,68 @@
+package com.yahoo.dodeleye.tetris.model;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Represents the a ghost piece a tetromino on the playfield.
+ *
+ * @since 1.1.0
+ */
+public class GhostStructure{
+
+    /**
+     * The coordinates of each square unit of the ghost piece.
+     * <p>
+     * The arrays are created once and updated in place whenever the ghost piece moves.
+     * </p>
+     */
+    private int[][] coordinates = new int[4][2];
+
+    /**
+     * The positions of each square unit of the ghost piece, as a fixed-size list view of the coordinates.
+     */
+    private List<int[]> positions = Arrays.asList(coordinates);
+    /**
+     * The tetromino the ghost piece 'shadows'.
+     */
+    private Tetromino tetromino;
+
+    /**
+     * Gets the positions of each unit of the ghost piece.
+     * @return the positions of each unit of the ghost piece.
+     */
+    public List<int[]> getPositions() {
+        return positions;
+    }
+
+    /**
+     * Gets the type of the tetromino the ghost piece shadows, which decides the colour it is displayed with.
+     * @return the type of the tetromino the ghost piece shadows.
+     * @since 1.2.0
+     */
+    public Tetromino.Type getType() {
+        return tetromino.getType();
+    }
+
+    GhostStructure(Tetromino tetromino){
+
+        this.tetromino = tetromino;
+    }
+
+    /**
+     * Updates the position of each block of the ghost piece.
+     */
+    void updatePositions(){
+
+        // Vertical distance from the tetromino to where it would land.
+        int dy = tetromino.getDropDistance();
+
+        // Loop through each square unit of the tetromion
+        for(int i = 0; i < tetromino.getCellCount(); i++){
+
+            // Set the unit's x-position, and its grounded y-position.
+            coordinates[i][0] = tetromino.getCellX(i);
+            coordinates[i][1] = tetromino.getCellY(i) + dy;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.yahoo.dodeleye.tetris.model;
+
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * Holds the time it takes for a piece to fall a single row at each level.
+ * <p>
+ * A table is worked out once from a gravity curve, for every level up to {@link #MAX_LEVEL}, and stored as whole
+ * nanoseconds. That way the game never depends on the floating point results of a particular JVM, and finding the
+ * gravity of a level is a single array lookup. Tables cannot be changed once created, so they can be shared by any
+ * number of games.
+ * </p>
+ * <p>
+ * Any row taking 1/1200 of a second or less (20 rows in a 60 Hz frame) is stored as 0, meaning 20G: the piece is
+ * placed on its landing row as soon as it spawns and after every move, rather than falling one row at a time.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+public final class GravityTable {
+
+    /**
+     * The number of nanoseconds in a second.
+     */
+    static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    /**
+     * The highest level with its own entry in a table. Any higher level uses the same gravity.
+     */
+    public static final int MAX_LEVEL = 999;
+
+    /**
+     * The longest time (in nanoseconds) a row can take while still counting as 20G.
+     */
+    private static final long TWENTY_G_DELAY = NANOS_PER_SECOND / 1200;
+
+    /**
+     * The gravity of the standard game, {@code (0.8 - (level - 1) * 0.007) ^ (level - 1)} seconds per row.
+     * <p>
+     * It reaches 20G at level 19.
+     * </p>
+     */
+    public static final GravityTable STANDARD =
+            new GravityTable(level -> StrictMath.pow(Math.max(0.8 - (level - 1) * 0.007, 0), level - 1));
+
+    /**
+     * Gravity that is 20G at every level.
+     */
+    public static final GravityTable TWENTY_G = new GravityTable(level -> 0);
+
+    /**
+     * The time (in nanoseconds) to fall a single row, indexed by level. Index 0 is unused.
+     */
+    private final long[] rowDelays = new long[MAX_LEVEL + 1];
+
+    /**
+     * Creates a table from a gravity curve.
+     *
+     * @param secondsPerRow gives the time (in seconds) to fall a single row at each level, from 1 to
+     *                      {@link #MAX_LEVEL}. It is only called while the table is created.
+     */
+    public GravityTable(IntToDoubleFunction secondsPerRow) {
+
+        for (int level = 1; level <= MAX_LEVEL; level++) {
+
+            long delay = Math.round(secondsPerRow.applyAsDouble(level) * NANOS_PER_SECOND);
+
+            // Rows that would fall faster than 20 a frame are placed at once instead.
+            if (delay <= TWENTY_G_DELAY)
+                delay = 0;
+
+            rowDelays[level] = delay;
+        }
+    }
+
+    /**
+     * Gets the time it takes for a piece to fall a single row.
+     *
+     * @param level the current level of the game, at least 1.
+     * @return the time (in nanoseconds) to fall a row, or 0 for 20G.
+     */
+    public long getRowDelay(int level) {
+
+        return rowDelays[Math.min(level, MAX_LEVEL)];
+    }
+
+    /**
+     * Checks whether pieces are placed straight on their landing row at a level.
+     *
+     * @param level the current level of the game, at least 1.
+     * @return true if the level is 20G, false otherwise.
+     */
+    public boolean isTwentyG(int level) {
+
+        return getRowDelay(level) == 0;
+    }
+}
@@ -0,0 +1,90 @@
+package com.yahoo.dodeleye.tetris.model;
+
+/**
+ * Holds how the controls of a game respond to a player: how soon and how fast a held shift repeats, and how much
+ * faster a piece falls while soft dropping.
+ * <p>
+ * Unlike a {@link Ruleset}, these are settings each player picks for themselves. Instances cannot be changed once
+ * created, so they can be shared between games and threads.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+public final class Handling {
+
+    /**
+     * The handling of the standard game: a delayed auto-shift of 150 ms, an auto-repeat rate of 50 ms and a soft drop
+     * 20 times faster than gravity.
+     */
+    public static final Handling STANDARD = new Handling(150_000_000L, 50_000_000L, 20);
+
+    /**
+     * The time (in nanoseconds) left or right must be held before the piece starts to repeat its shift.
+     */
+    private final long delayedAutoShift;
+
+    /**
+     * The time (in nanoseconds) between repeated shifts once they have started.
+     * <p>
+     * At 0 the piece moves straight to the wall as soon as the delayed auto-shift is charged.
+     * </p>
+     */
+    private final long autoRepeatRate;
+
+    /**
+     * The number of times faster a piece falls while soft dropping.
+     */
+    private final int softDropFactor;
+
+    /**
+     * Creates a handling.
+     *
+     * @param delayedAutoShift the time (in nanoseconds) left or right must be held before the shift repeats, at
+     *                         least 0.
+     * @param autoRepeatRate   the time (in nanoseconds) between repeated shifts, at least 0. At 0 the piece moves
+     *                         straight to the wall.
+     * @param softDropFactor   the number of times faster a piece falls while soft dropping, at least 1.
+     */
+    public Handling(long delayedAutoShift, long autoRepeatRate, int softDropFactor) {
+
+        if (delayedAutoShift < 0)
+            throw new IllegalArgumentException("The delayed auto-shift must be at least 0: " + delayedAutoShift);
+
+        if (autoRepeatRate < 0)
+            throw new IllegalArgumentException("The auto-repeat rate must be at least 0: " + autoRepeatRate);
+
+        if (softDropFactor < 1)
+            throw new IllegalArgumentException("The soft drop factor must be at least 1: " + softDropFactor);
+
+        this.delayedAutoShift = delayedAutoShift;
+        this.autoRepeatRate = autoRepeatRate;
+        this.softDropFactor = softDropFactor;
+    }
+
+    /**
+     * Gets the time left or right must be held before the piece starts to repeat its shift.
+     *
+     * @return the delayed auto-shift, in nanoseconds.
+     */
+    public long getDelayedAutoShift() {
+        return delayedAutoShift;
+    }
+
+    /**
+     * Gets the time between repeated shifts once they have started.
+     *
+     * @return the auto-repeat rate, in nanoseconds. 0 if the piece moves straight to the wall.
+     */
+    public long getAutoRepeatRate() {
+        return autoRepeatRate;
+    }
+
+    /**
+     * Gets the number of times faster a piece falls while soft dropping.
+     *
+     * @return the soft drop factor.
+     */
+    public int getSoftDropFactor() {
+        return softDropFactor;
+    }
+}
@@ -0,0 +1,225 @@
+package com.yahoo.dodeleye.tetris.model;
+
+import java.util.Arrays;
+
+/**
+ * Represents a single orientation of a tetromino piece.
+ * <p>
+ * It holds the positions of each square unit relative to the tetromino's origin, the bounding box of those
+ * positions, and a bit mask for each row the piece takes up so that it can be tested against the row masks of the
+ * playfield. Instances are immutable once the shape table has been built.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+final class Orientation {
+
+    /**
+     * The rotation index of the orientation.
+     */
+    private final int index;
+
+    /**
+     * The column offsets of each square unit from the tetromino's origin.
+     */
+    private final int[] cellX;
+
+    /**
+     * The row offsets of each square unit from the tetromino's origin.
+     */
+    private final int[] cellY;
+
+    /**
+     * The lowest and highest column offsets of the square units.
+     */
+    private final int left, right;
+
+    /**
+     * The lowest (top) and highest (bottom) row offsets of the square units.
+     */
+    private final int top, bottom;
+
+    /**
+     * The cells taken on each row of the orientation, from the top row to the bottom row.
+     * <p>
+     * Bit n of a mask is set if there is a square unit at column offset n on that row.
+     * </p>
+     */
+    private final int[] rowBits;
+
+    /**
+     * The lowest (highest row offset) square unit in each column of the orientation, from the left column to the
+     * right column.
+     * <p>
+     * It forms the bottom profile of the orientation, used to find how far the tetromino can drop.
+     * </p>
+     */
+    private final int[] columnBottoms;
+
+    /**
+     * The orientations reached by rotating this one clockwise and anticlockwise.
+     */
+    private Orientation clockwise, anticlockwise;
+
+    Orientation(int index, int[][] blockVectors) {
+
+        this.index = index;
+
+        int n = blockVectors.length;
+        cellX = new int[n];
+        cellY = new int[n];
+
+        int minX = Integer.MAX_VALUE, maxX = Integer.MIN_VALUE;
+        int minY = Integer.MAX_VALUE, maxY = Integer.MIN_VALUE;
+
+        // Copy each offset, finding the bounding box along the way.
+        for (int i = 0; i < n; i++) {
+
+            cellX[i] = blockVectors[i][0];
+            cellY[i] = blockVectors[i][1];
+
+            minX = Math.min(minX, cellX[i]);
+            maxX = Math.max(maxX, cellX[i]);
+            minY = Math.min(minY, cellY[i]);
+            maxY = Math.max(maxY, cellY[i]);
+        }
+
+        left = minX;
+        right = maxX;
+        top = minY;
+        bottom = maxY;
+
+        // Form the mask of each row from the offsets.
+        rowBits = new int[bottom - top + 1];
+        for (int i = 0; i < n; i++) {
+            rowBits[cellY[i] - top] |= 1 << cellX[i];
+        }
+
+        // Form the bottom profile from the offsets.
+        columnBottoms = new int[right - left + 1];
+        Arrays.fill(columnBottoms, Integer.MIN_VALUE);
+        for (int i = 0; i < n; i++) {
+            columnBottoms[cellX[i] - left] = Math.max(columnBottoms[cellX[i] - left], cellY[i]);
+        }
+    }
+
+    /**
+     * Sets the orientations reached by rotating this one.
+     * <p>
+     * Should only be called while the shape table is being built.
+     * </p>
+     *
+     * @param clockwise     the orientation reached by rotating 90 degrees clockwise.
+     * @param anticlockwise the orientation reached by rotating 90 degrees anticlockwise.
+     */
+    void link(Orientation clockwise, Orientation anticlockwise) {
+
+        this.clockwise = clockwise;
+        this.anticlockwise = anticlockwise;
+    }
+
+    /**
+     * Gets the orientation reached by rotating this one 90 degrees.
+     *
+     * @param rotation the direction of rotation.
+     * @return the rotated orientation.
+     */
+    Orientation rotated(Tetromino.Rotation rotation) {
+
+        return rotation == Tetromino.Rotation.CLOCKWISE ? clockwise : anticlockwise;
+    }
+
+    /**
+     * Gets the rotation index of the orientation.
+     *
+     * @return the rotation index of the orientation.
+     */
+    int getIndex() {
+        return index;
+    }
+
+    /**
+     * Gets the number of square units in the orientation.
+     *
+     * @return the number of square units.
+     */
+    int getCellCount() {
+        return cellX.length;
+    }
+
+    /**
+     * Gets the column offset of a square unit.
+     *
+     * @param i the index of the square unit.
+     * @return the column offset of the square unit from the origin.
+     */
+    int getCellX(int i) {
+        return cellX[i];
+    }
+
+    /**
+     * Gets the row offset of a square unit.
+     *
+     * @param i the index of the square unit.
+     * @return the row offset of the square unit from the origin.
+     */
+    int getCellY(int i) {
+        return cellY[i];
+    }
+
+    /**
+     * Gets the lowest column offset of the square units.
+     *
+     * @return the lowest column offset.
+     */
+    int getLeft() {
+        return left;
+    }
+
+    /**
+     * Gets the highest column offset of the square units.
+     *
+     * @return the highest column offset.
+     */
+    int getRight() {
+        return right;
+    }
+
+    /**
+     * Gets the lowest (top-most) row offset of the square units.
+     *
+     * @return the lowest row offset.
+     */
+    int getTop() {
+        return top;
+    }
+
+    /**
+     * Gets the highest (bottom-most) row offset of the square units.
+     *
+     * @return the highest row offset.
+     */
+    int getBottom() {
+        return bottom;
+    }
+
+    /**
+     * Gets the mask of the cells taken on one row of the orientation.
+     *
+     * @param rowOffset the row offset from the origin, between the top and bottom offsets inclusive.
+     * @return the mask of the row, where bit n is set if there is a square unit at column offset n.
+     */
+    int getRowBits(int rowOffset) {
+        return rowBits[rowOffset - top];
+    }
+
+    /**
+     * Gets the row offset of the lowest square unit in one column of the orientation.
+     *
+     * @param columnOffset the column offset from the origin, between the left and right offsets inclusive.
+     * @return the highest row offset of the square units in the column.
+     */
+    int getColumnBottom(int columnOffset) {
+        return columnBottoms[columnOffset - left];
+    }
+}
@@ -0,0 +1,1847 @@
+package com.yahoo.dodeleye.tetris.model;
+
+import com.yahoo.dodeleye.tetris.BlockAlreadyAtPositonException;
+import com.yahoo.dodeleye.tetris.BlockNotFoundException;
+
+import java.util.Arrays;
+
+/**
+ * The class used to represent the grid component of the game interface called the playfield where Tetris is actually
+ * played on.
+ *
+ * @author daniel
+ * @author dodeleye@yahoo.com
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+
+public class Playfield {
+
+    /**
+     * The delay time before locking a piece.
+     * <p>
+     * It is amount of time, in nanoseconds, that the current tetromino piece that is grounded can be controlled
+     * before it becomes inactive (0.5 seconds).
+     * </p>
+     */
+    private static final long LOCK_DELAY = 500_000_000L;
+
+    /**
+     * The delay before spawning the next piece.
+     * <p>
+     * It is the amount of time, in nanoseconds, that needs to be passed before spawning the next tettomino after
+     * the previous tetromino locks onto the playfield (0.42 seconds).
+     * </p>
+     */
+    private static final long ENTRY_DELAY = 420_000_000L;
+
+    /**
+     * The delay for clearing full rows of blocks from the playfield.
+     * <p>
+     * It is the amount of time, in nanoseconds, that the game uses to clear full rows on the playfield after the
+     * tetromino locks (0.65 seconds).
+     * </p>
+     */
+    private static final long CLEAR_DELAY = 650_000_000L;
+
+    /**
+     * The delay time after the game over condition has been reached.
+     * <p>
+     * It is the amount of time, in nanoseconds, that the game uses to clear all remaining blocks on the playfield,
+     * and until the game officially ends (5 seconds).
+     * </p>
+     */
+    private static final long GAME_OVER_DELAY = 5_000_000_000L;
+
+    /**
+     * The width of the playfield.
+     * <p>
+     * Determines the number of units that can fit on a single row.
+     * </p>
+     */
+    private static int gridWidth = 10;
+
+    /**
+     * The height of the playfield.
+     * <p>
+     * Determines the number of units that can fit in a single column.
+     * </p>
+     */
+    private static int gridHeight = 22;
+
+    /**
+     * The number of rows (from the top) that will be hidden from view.
+     * <p>
+     * Note that it must always be less than the grid height, otherwise an error will arise.
+     * </p>
+     */
+    public static final int HIDDEN_ROWS = 2;
+
+    /**
+     * The number of sentinel wall bits kept on the left-hand side of each row mask.
+     * <p>
+     * Column x of the playfield is held at bit (x + WALL_BITS) of its row mask, so that any position a tetromino
+     * could be tested at just outside the playfield still lands on a set wall bit.
+     * </p>
+     */
+    private static final int WALL_BITS = 4;
+
+    /**
+     * The number of sentinel rows kept above and below the playfield.
+     * <p>
+     * They are completely filled, so that they act as the ceiling and the floor of the playfield.
+     * </p>
+     */
+    private static final int SENTINEL_ROWS = 4;
+
+    /**
+     * The mask of a row where every cell is occupied (as well as every wall bit).
+     */
+    private static final int FULL_ROW = -1;
+
+    /**
+     * The mask of a row where no cell is occupied - only the wall bits are set.
+     */
+    private static final int EMPTY_ROW = ~(((1 << gridWidth) - 1) << WALL_BITS);
+
+    /**
+     * The main data structure used to hold the units currently on the playfield.
+     * <p>
+     * Each row of the playfield is held as a single bit mask, where a set bit means the cell is occupied. Every mask
+     * also contains the bits of the left and right walls, and there are full sentinel rows above and below the
+     * playfield, so bounds, collision and full row checks are just a few bitwise operations.
+     * </p>
+     * <p>
+     * Row y of the playfield is held at index (y + SENTINEL_ROWS).
+     * </p>
+     */
+    private int[] rowMasks = new int[gridHeight + 2 * SENTINEL_ROWS];
+
+    /**
+     * The number of blocks held on each row of the playfield.
+     * <p>
+     * It is updated every time a block is placed or removed, so that full and empty rows can be found without
+     * going through the cells of a row.
+     * </p>
+     */
+    private int[] rowCounts = new int[gridHeight];
+
+    /**
+     * The index of the highest row that is not empty, or the grid height if the playfield is empty.
+     * <p>
+     * It is updated every time a block is placed or removed, rather than searched for.
+     * </p>
+     */
+    private int topRow = gridHeight;
+
+    /**
+     * The index of the highest occupied row in each column of the playfield, or the grid height if the column is
+     * empty.
+     * <p>
+     * It forms the surface of the stack, and is updated every time a block is placed or removed so that the landing
+     * position of the active tetromino can be found without going down the playfield one row at a time.
+     * </p>
+     */
+    private int[] columnTops = new int[gridWidth];
+
+    /**
+     * A reference to the GameLogic instance holding this Playfield instance.
+     */
+    private GameLogic model;
+
+    /**
+     * Receives the events of the game, such as pieces moving and landing.
+     */
+    private GameListener listener;
+
+    /**
+     * Stores the type of tetromino each block unit came from.
+     * <p>
+     * Its dimension matches the grid variable, allowing it to store the type of each block at the position
+     * corresponding to where it is held on the grid. The view decides what colour each type is drawn with.
+     * </p>
+     */
+    private Tetromino.Type[][] cellGrid = new Tetromino.Type[gridHeight][gridWidth];
+
+    /**
+     * The types of each cell to be displayed.
+     * <p>
+     * The active tetromino is not held on the grid until it locks, so this matrix holds the types of the locked
+     * blocks with the active tetromino drawn over them. It is refilled every time it is requested.
+     * </p>
+     */
+    private Tetromino.Type[][] displayGrid = new Tetromino.Type[gridHeight][gridWidth];
+
+    /**
+     * The tetromino piece currently being controlled (by the player) on the playfield.
+     */
+    private Tetromino activeTetromino;
+
+    /**
+     * Holds one tetromino piece for each type, indexed by the ordinal of the type.
+     * <p>
+     * The pieces are created once with the playfield and set up again every time one is spawned, so spawning a
+     * piece does not need to create any new objects.
+     * </p>
+     */
+    private Tetromino[] pieces = new Tetromino[Tetromino.Type.values().length];
+
+    /**
+     * Use to hold time that has currently passed in order to be transferred.
+     * <p>
+     * Its value will be increased by the time interval of the current frame, and will be passed on to be used in
+     * other procedures, such as for counting the gravity, lock and entry delays.
+     * </p>
+     * <p>
+     * All time on the playfield is kept in whole nanoseconds, so it adds up exactly however long the game runs.
+     * </p>
+     */
+    private long accumulator = 0;
+
+    /**
+     * A second accumulator for holding time passed in the lock phase.
+     * <p>
+     * Every time lock delay is cancelled, the time spent in the lock phase needs to be saved. When the lock phase
+     * is re-entered again without the tetromino dropping further, the timer starts from the saved value.
+     * </p>
+     */
+    private long lockAccumulator = 0;
+
+    /**
+     * The time (in nanoseconds) that is taken for the piece to fall down a single row.
+     */
+    private long gravity;
+
+    /**
+     * A flag used to determine whether soft drop (fast falling) should be applied.
+     */
+    private boolean softDropIsActive = false;
+
+    /**
+     * The state for when the active piece is falling under gravity.
+     * <p>
+     * Each state has a single instance that is reset every time it is entered, so changing state allocates nothing.
+     * </p>
+     */
+    private final FallState fallState = new FallState();
+
+    /**
+     * The state for when the active piece is grounded, under lock delay.
+     */
+    private final LockState lockState = new LockState();
+
+    /**
+     * The state for when the next piece is waiting to spawn.
+     */
+    private final EntryState entryState = new EntryState();
+
+    /**
+     * The state for when full rows are being cleared.
+     */
+    private final ClearState clearState = new ClearState();
+
+    /**
+     * The state for when the game has been lost, and the playfield is being emptied.
+     */
+    private final GameOverState gameOverState = new GameOverState();
+
+    /**
+     * The current state of the game.
+     * <p>The state refers to the current phase the game is in, such as the drop phase, lock phase and entry phase.
+     * </p>
+     */
+    private StateMachine currentState = fallState;
+
+    /**
+     * Identifiers for each possible state of the game.
+     */
+    private enum State {
+        /**
+         * For when the active piece is falling under gravity.
+         */
+        DROP,
+        /**
+         * For when entry delay before spawning the next piece occurs.
+         */
+        ENTRY_PHASE,
+        /**
+         * For when delay occurs for clearing full rows.
+         */
+        LINE_CLEAR,
+        /**
+         * For when the active piece is getting ready to lock down.
+         */
+        LOCK_PHASE,
+        /**
+         * For when a game over condition has been reached.
+         */
+        GAME_OVER
+    }
+
+    /**
+     * Returns the width of the grid.
+     *
+     * @return the width of the grid.
+     */
+    public static int getGridWidth() {
+
+        return gridWidth;
+    }
+
+    /**
+     * Returns the number of rows of the grid that will be shown.
+     *
+     * @return the height of the grid that is visible.
+     * @since 1.2.0
+     */
+    public static int getVisibleGridHeight() {
+
+        return gridHeight - HIDDEN_ROWS;
+    }
+
+    /**
+     * Initialises the Playfield instance.
+     *
+     * @param gameLogic The model component that holds this instance.
+     */
+    Playfield(GameLogic gameLogic) {
+
+        this.model = gameLogic;
+        this.listener = gameLogic.getListener();
+
+        gravity = model.calculateGravity();
+
+        // Create the piece used for each type of tetromino.
+        for (Tetromino.Type type : Tetromino.Type.values()) {
+            pieces[type.ordinal()] = Tetromino.create(type);
+        }
+
+        // Every column starts empty.
+        Arrays.fill(columnTops, gridHeight);
+
+        // Fill the sentinel rows above and below the playfield, and empty each of the rows in between.
+        for (int i = 0; i < rowMasks.length; i++) {
+
+            if (i < SENTINEL_ROWS || i >= SENTINEL_ROWS + gridHeight)
+                rowMasks[i] = FULL_ROW;
+            else
+                rowMasks[i] = EMPTY_ROW;
+        }
+    }
+
+    /**
+     * Gets the bit mask used for a single cell of a row.
+     *
+     * @param x The column of the cell.
+     * @return the mask with only the bit of the column set.
+     */
+    private static int cellBit(int x) {
+
+        return 1 << (x + WALL_BITS);
+    }
+
+    /**
+     * Converts the mask of a tetromino's row into the form of a playfield row mask.
+     * <p>
+     * Positions far enough outside of the playfield that they cannot be represented are given a mask with every bit
+     * set, so that they always count as a collision.
+     * </p>
+     *
+     * @param bits the mask of the tetromino's row, where bit n is set for a square unit at column offset n.
+     * @param x    the column position of the tetromino's origin.
+     * @return the mask of the cells the row would take on the playfield.
+     */
+    static int toRowBits(int bits, int x) {
+
+        if (x < -WALL_BITS)
+            return FULL_ROW;
+
+        return bits << (x + WALL_BITS);
+    }
+
+    /**
+     * Gets the occupancy mask of a row on the playfield.
+     * <p>
+     * Rows outside of the playfield are returned as full rows.
+     * </p>
+     *
+     * @param y the index of the row.
+     * @return the mask of the row, including the wall bits.
+     */
+    int getRowMask(int y) {
+
+        if (y < -SENTINEL_ROWS || y >= gridHeight + SENTINEL_ROWS)
+            return FULL_ROW;
+
+        return rowMasks[y + SENTINEL_ROWS];
+    }
+
+    /**
+     * Checks whether a cell is blocked, either by a block or by the boundaries of the playfield.
+     * <p>
+     * Unlike {@link #checkCellEmpty(int, int)}, any position outside of the playfield can be safely passed.
+     * </p>
+     *
+     * @param x the column of the cell to check.
+     * @param y the row of the cell to check.
+     * @return true if the cell is occupied or lies outside the playfield, false otherwise.
+     */
+    boolean isBlocked(int x, int y) {
+
+        // Positions beyond the sentinel walls and rows will always be blocked.
+        if (x < -WALL_BITS || x >= Integer.SIZE - WALL_BITS || y < -SENTINEL_ROWS || y >= gridHeight + SENTINEL_ROWS)
+            return true;
+
+        return (rowMasks[y + SENTINEL_ROWS] & cellBit(x)) != 0;
+    }
+
+    /**
+     * Returns the grid of the types of each block on the playfield, including the active tetromino.
+     *
+     * @return the grid of the types of each block on the playfield.
+     */
+    Tetromino.Type[][] getCellGrid() {
+
+        copyCellGrid(displayGrid);
+
+        return displayGrid;
+    }
+
+    /**
+     * Copies the type of tetromino each block came from into a matrix, including the active tetromino.
+     *
+     * @param target the matrix to copy into, the same size as the playfield.
+     * @since 1.2.0
+     */
+    void copyCellGrid(Tetromino.Type[][] target) {
+
+        // Copy the types of the locked blocks.
+        for (int r = 0; r < gridHeight; r++) {
+            System.arraycopy(cellGrid[r], 0, target[r], 0, gridWidth);
+        }
+
+        // Draw the active tetromino over them.
+        if (checkTetrominoActive()) {
+
+            Tetromino.Type type = activeTetromino.getType();
+
+            for (int i = 0; i < activeTetromino.getCellCount(); i++) {
+
+                int x = activeTetromino.getCellX(i);
+                int y = activeTetromino.getCellY(i);
+
+                if (isInbounds(x, y))
+                    target[y][x] = type;
+            }
+        }
+    }
+
+    /**
+     * Gets the ghost piece of the active tetromino.
+     * @return the ghost piece of the active tetromino.
+     * @since 1.1.0
+     */
+    GhostStructure getGhostStructure(){
+        // Check if a tetromino is active.
+        if(checkTetrominoActive())
+            return activeTetromino.getGhostStructure();
+        else
+            return null;
+    }
+
+    /**
+     * Places a block onto the grid, at a given position.
+     *
+     * @param x The column position to set the block to.
+     * @param y The row position to set the block to.
+     * @param b The block to add to the grid.
+     */
+    private void set(int x, int y, Block b) {
+
+        // Only count the block if the cell was empty.
+        if (checkCellEmpty(x, y)) {
+
+            rowCounts[y] += 1;
+
+            // The row may now be the highest one holding a block.
+            if (y < topRow)
+                topRow = y;
+
+            // The cell may now be the highest one in its column.
+            if (y < columnTops[x])
+                columnTops[x] = y;
+        }
+
+        rowMasks[y + SENTINEL_ROWS] |= cellBit(x);
+
+        cellGrid[y][x] = b.getType();
+    }
+
+    /**
+     * Erases a block from the grid at a given position.
+     *
+     * @param x The column position to remove the block from.
+     * @param y The row position to remove the block from.
+     */
+    private void setNull(int x, int y) {
+
+        // Only uncount the block if the cell was occupied.
+        if (!checkCellEmpty(x, y)) {
+
+            rowCounts[y] -= 1;
+
+            // The top row may have been emptied.
+            if (y == topRow)
+                updateTopRow();
+        }
+
+        rowMasks[y + SENTINEL_ROWS] &= ~cellBit(x);
+
+        cellGrid[y][x] = null;
+
+        // The highest cell of the column may have been emptied.
+        if (y == columnTops[x])
+            updateColumnTop(x);
+    }
+
+    /**
+     * Moves a row of blocks to another row index, leaving the row it was moved from empty.
+     * <p>
+     * The type arrays of the two rows are swapped rather than copied, so the (empty) array of the destination row
+     * is recycled as the new array of the source row. No arrays are created.
+     * </p>
+     *
+     * @param from The index of the row to move.
+     * @param to   The index of the empty row to move it to.
+     */
+    private void moveRow(int from, int to) {
+
+        rowMasks[to + SENTINEL_ROWS] = rowMasks[from + SENTINEL_ROWS];
+        rowMasks[from + SENTINEL_ROWS] = EMPTY_ROW;
+
+        rowCounts[to] = rowCounts[from];
+        rowCounts[from] = 0;
+
+        Tetromino.Type[] types = cellGrid[to];
+        cellGrid[to] = cellGrid[from];
+        cellGrid[from] = types;
+    }
+
+    /**
+     * Empties a single row on the grid at a given row index.
+     *
+     * @param rowIndex The index of the row to empty
+     */
+    private void clearRow(int rowIndex) {
+
+        rowMasks[rowIndex + SENTINEL_ROWS] = EMPTY_ROW;
+        rowCounts[rowIndex] = 0;
+        Arrays.fill(cellGrid[rowIndex], null);
+
+        // The top row may have been emptied.
+        if (rowIndex == topRow)
+            updateTopRow();
+
+        // The highest cell of any column may have been emptied.
+        for (int x = 0; x < gridWidth; x++) {
+
+            if (rowIndex == columnTops[x])
+                updateColumnTop(x);
+        }
+    }
+
+    /**
+     * Moves the cached top of a column down to the next occupied cell, after its highest cell was emptied.
+     *
+     * @param x the column whose top was emptied.
+     */
+    private void updateColumnTop(int x) {
+
+        int y = columnTops[x];
+
+        while (y < gridHeight && checkCellEmpty(x, y))
+            y += 1;
+
+        columnTops[x] = y;
+    }
+
+    /**
+     * Moves the cached top row down past any rows that have been emptied.
+     * <p>
+     * Only the empty rows directly below the previous top row are passed over.
+     * </p>
+     */
+    private void updateTopRow() {
+
+        while (topRow < gridHeight && rowCounts[topRow] == 0)
+            topRow += 1;
+    }
+
+    /**
+     * Places a block onto the grid, at the position given by its coordinate attributes
+     *
+     * @param b The block to add to the grid
+     */
+    void addBlock(Block b) throws BlockAlreadyAtPositonException {
+
+        // Get the x and y coordinates of the Block instance passed.
+        int x = b.getX();
+        int y = b.getY();
+
+        // Raise an error if there is already a block at the position.
+        if (!checkCellEmpty(x, y)) {
+            throw new BlockAlreadyAtPositonException(x, y);
+        } else {
+            // Add the block to the position.
+            set(x, y, b);
+        }
+
+    }
+
+    /**
+     * Removes a block from the grid, at the position given by its own coordinates,
+     *
+     * @param b The block to be removed from the grid.
+     */
+    void removeBlock(Block b) throws BlockNotFoundException {
+
+        // get the coordinates of the block.
+        int x = b.getX();
+        int y = b.getY();
+
+        // In case the block is not at the position, throw an exception.
+        if (!checkBlockPosition(b)) {
+
+            throw new BlockNotFoundException(x, y);
+        }
+
+        // set the value stored at the coordinates to null, thus removing it from the grid.
+        setNull(x, y);
+    }
+
+    /**
+     * Applies line clear gravity to the rows of blocks above the cleared lines (They are shifted downwards).
+     * <p>
+     * All the cleared rows are removed in a single pass from the lowest cleared row up to the top row, moving each
+     * remaining row straight to its final position. The arrays of the cleared rows are recycled as the empty rows
+     * left at the top, so nothing is allocated.
+     * </p>
+     *
+     * @param fullRows: the row indexes of the playfield that were completely filled with blocks, in ascending order.
+     * @param count:    the number of full rows held at the start of the array.
+     * @see CompactionBenchmark
+     */
+    void shiftRowsDown(int[] fullRows, int count) {
+
+        // No need to shift any rows if the grid is completely cleared.
+        if (checkGridEmpty())
+            return;
+
+        // Start from the last (lowest) cleared row.
+        int next = count - 1;
+
+        // The row index that the next remaining row will be moved to.
+        int dest = fullRows[next];
+
+        // Go up each row from the lowest cleared row to the top row.
+        for (int y = dest; y >= topRow; y--) {
+
+            // Cleared rows are skipped over, so that the rows above them fill their place.
+            if (next >= 0 && y == fullRows[next]) {
+
+                // Make sure that the recycled row is empty.
+                if (rowCounts[y] != 0)
+                    clearRow(y);
+
+                next -= 1;
+                continue;
+            }
+
+            // Move the remaining row down to its final position.
+            if (y != dest)
+                moveRow(y, dest);
+
+            dest -= 1;
+        }
+
+        // Every row at or above the last destination is now empty.
+        if (topRow <= dest) {
+            topRow = dest + 1;
+            updateTopRow();
+        }
+
+        dropColumnTops(fullRows, count);
+    }
+
+    /**
+     * Applies line clear gravity the way it was done before the single-pass {@link #shiftRowsDown(int[], int)}: the
+     * rows above each cleared row are moved down one at a time, once per cleared row, copying every row moved into a
+     * new array.
+     * <p>
+     * It is not used by the game. It is kept only so that {@link CompactionBenchmark} can measure the single-pass
+     * routine against it, and check that both leave the same playfield.
+     * </p>
+     *
+     * @param fullRows the row indexes of the playfield that were completely filled with blocks, in ascending order.
+     * @param count    the number of full rows held at the start of the array.
+     * @since 1.2.0
+     */
+    void shiftRowsDownLegacy(int[] fullRows, int count) {
+
+        // No need to shift any rows if the grid is completely cleared.
+        if (checkGridEmpty())
+            return;
+
+        // Loop through each of the full rows, from the top.
+        for (int i = 0; i < count; i++) {
+
+            // Shift from the top row of blocks, to the cleared row currently pointed to.
+            int startRow = topRow;
+            int endRow = fullRows[i];
+
+            // No shift needs to be performed if the cleared row was above the top row.
+            if (startRow > endRow)
+                continue;
+
+            // Start with the top block row.
+            int tempMask = rowMasks[startRow + SENTINEL_ROWS];
+            Tetromino.Type[] tempTypes = cellGrid[startRow];
+
+            // Empty the start row with a new array, as its blocks need to be shifted downwards.
+            rowMasks[startRow + SENTINEL_ROWS] = EMPTY_ROW;
+            rowCounts[startRow] = 0;
+            cellGrid[startRow] = new Tetromino.Type[gridWidth];
+            updateTopRow();
+
+            // Move each row down one, holding the row it replaces to move next.
+            for (int y = startRow; y < endRow; y++) {
+
+                int mask = rowMasks[y + 1 + SENTINEL_ROWS];
+                Tetromino.Type[] types = cellGrid[y + 1];
+
+                copyRow(y + 1, tempMask, tempTypes);
+
+                tempMask = mask;
+                tempTypes = types;
+            }
+        }
+
+        dropColumnTops(fullRows, count);
+    }
+
+    /**
+     * Replaces the blocks of a single row with a copy of another row of blocks, as {@link #shiftRowsDownLegacy} did.
+     *
+     * @param rowIndex the index of the row to set the new blocks to.
+     * @param mask     the occupancy mask of the new row.
+     * @param types    the types of the new blocks to place on the row.
+     */
+    private void copyRow(int rowIndex, int mask, Tetromino.Type[] types) {
+
+        rowMasks[rowIndex + SENTINEL_ROWS] = mask;
+
+        // The number of blocks is the number of bits set on the mask, not counting the wall bits.
+        rowCounts[rowIndex] = Integer.bitCount(mask & ~EMPTY_ROW);
+
+        // The row may now be the highest one holding a block, or the top row may have been emptied.
+        if (rowCounts[rowIndex] > 0 && rowIndex < topRow)
+            topRow = rowIndex;
+        else if (rowIndex == topRow)
+            updateTopRow();
+
+        cellGrid[rowIndex] = Arrays.copyOf(types, types.length);
+    }
+
+    /**
+     * Moves the cached top of each column down by the number of cleared rows below it.
+     *
+     * @param fullRows the row indexes of the cleared rows.
+     * @param count    the number of cleared rows held at the start of the array.
+     */
+    private void dropColumnTops(int[] fullRows, int count) {
+
+        // The top of each column drops by the number of cleared rows below it.
+        for (int x = 0; x < gridWidth; x++) {
+
+            int top = columnTops[x];
+
+            // Empty columns stay empty.
+            if (top == gridHeight)
+                continue;
+
+            for (int i = 0; i < count; i++) {
+
+                if (fullRows[i] > top)
+                    columnTops[x] += 1;
+            }
+        }
+    }
+
+    /**
+     * Gets how many rows a tetromino could drop before landing.
+     * <p>
+     * Each column the tetromino takes is compared with the surface of the stack, using the lowest square unit of the
+     * tetromino in that column, so only the width of the tetromino needs to be checked. The square units of a
+     * tetromino are contiguous within each column, so the lowest one decides where the column lands. Only when the
+     * tetromino is below the surface of a column (tucked under an overhang) is that column searched downwards.
+     * </p>
+     *
+     * @param o the orientation of the tetromino.
+     * @param x the column position of the tetromino's origin.
+     * @param y the row position of the tetromino's origin.
+     * @return the number of rows the tetromino can drop without colliding.
+     * @since 1.2.0
+     */
+    int getDropDistance(Orientation o, int x, int y) {
+
+        int distance = Integer.MAX_VALUE;
+
+        // Loop through each column the tetromino takes.
+        for (int dx = o.getLeft(); dx <= o.getRight(); dx++) {
+
+            int column = x + dx;
+
+            // The row of the lowest square unit in the column.
+            int bottom = y + o.getColumnBottom(dx);
+
+            // The first occupied row below it.
+            int landing;
+
+            // When above the surface, the column lands on its highest block (or the floor).
+            if (bottom < columnTops[column])
+                landing = columnTops[column];
+
+            // Otherwise the column needs to be searched below the square unit.
+            else {
+                landing = bottom + 1;
+
+                while (landing < gridHeight && checkCellEmpty(column, landing))
+                    landing += 1;
+            }
+
+            distance = Math.min(distance, landing - bottom - 1);
+        }
+
+        return distance;
+    }
+
+    /**
+     * Gets how many columns a tetromino can shift in a direction before it is blocked.
+     * <p>
+     * No row of a tetromino has a gap in it, so only the square unit at the leading end of each row can be blocked
+     * first. For each row, the nearest set bit of the row mask beyond that unit is found with a single bit scan, which
+     * always finds one as the walls are set in every mask.
+     * </p>
+     *
+     * @param o         the orientation of the tetromino.
+     * @param x         the column position of the tetromino's origin.
+     * @param y         the row position of the tetromino's origin.
+     * @param direction -1 to shift to the left, or 1 to shift to the right.
+     * @return the number of columns the tetromino can shift without colliding.
+     * @since 1.2.0
+     */
+    int getShiftDistance(Orientation o, int x, int y, int direction) {
+
+        int distance = Integer.MAX_VALUE;
+
+        // Loop through each row the tetromino takes.
+        for (int row = o.getTop(); row <= o.getBottom(); row++) {
+
+            int bits = toRowBits(o.getRowBits(row), x);
+            int mask = getRowMask(y + row);
+
+            if (direction < 0) {
+
+                // The lowest bit is the leftmost square unit, blocked by the highest set bit below it.
+                int leading = Integer.numberOfTrailingZeros(bits);
+                int blocking = 31 - Integer.numberOfLeadingZeros(mask & ((1 << leading) - 1));
+
+                distance = Math.min(distance, leading - blocking - 1);
+            }
+
+            else {
+
+                // The highest bit is the rightmost square unit, blocked by the lowest set bit above it.
+                int leading = 31 - Integer.numberOfLeadingZeros(bits);
+                int blocking = Integer.numberOfTrailingZeros(mask & (-1 << (leading + 1)));
+
+                distance = Math.min(distance, blocking - leading - 1);
+            }
+        }
+
+        return distance;
+    }
+
+    /**
+     * Updates the state of the playfield.
+     * <p>
+     * This should not be called within the class.
+     * </p>
+     *
+     * @param nanos the current time step (in nanoseconds) that has passed
+     */
+
+    void update(long nanos) {
+
+        // Increase the accumulator by delta time.
+        accumulator += nanos;
+
+        // Update the current state of the game.
+        currentState.updateState();
+
+    }
+
+    /**
+     * Gets the time until the current state of the playfield next changes something by itself.
+     * <p>
+     * Such as the active tetromino falling a row, lock delay ending, the next piece spawning or a column of a line
+     * clear being emptied. Updating the playfield by any shorter time only moves its timers along.
+     * </p>
+     *
+     * @return the time (in nanoseconds) until the next event.
+     * @since 1.2.0
+     */
+    long getTimeToNextEvent() {
+
+        return currentState.getTimeToNextEvent();
+    }
+
+    /**
+     * Gets the time left until a timer passes its delay.
+     * <p>
+     * The timers only act once they are strictly greater than their delay, so one more nanosecond is needed.
+     * </p>
+     *
+     * @param delay   the delay the timer needs to pass.
+     * @param elapsed the time held by the timer so far.
+     * @return the time (in nanoseconds) until the timer passes the delay.
+     */
+    private static long timeUntil(long delay, long elapsed) {
+
+        return Math.max(delay - elapsed, 0) + 1;
+    }
+
+    /**
+     * Sets the next tetromino piece to be placed onto the playfield.
+     *
+     * @param type The type of the tetromino piece that will be placed on the grid as the active piece.
+     */
+    void setTetromino(Tetromino.Type type) {
+
+        // Define the top-left coordinates of where the tetromino piece will spawn.
+        int startX = 3;
+        int startY = 2;
+
+        // Set the piece of the type as the active tetromino on the playfield.
+        activeTetromino = pieces[type.ordinal()];
+
+        // Setup the square units of the active tetromino.
+        activeTetromino.setupBlocks(startX, startY, this);
+
+        // Should tetromino collide at its current position,
+        if (activeTetromino.wouldCollide(0, 0)) {
+
+            // Attempt to spawn the piece again one cell higher.
+            activeTetromino.setupBlocks(startX, startY - 1, this);
+
+            // Should it still collide, then...
+            if (activeTetromino.wouldCollide(0, 0)) {
+
+                Block[] blocks = activeTetromino.getBlocks();
+                for (Block b : blocks) {
+
+                    int x = b.getX();
+                    int y = b.getY();
+                    set(x, y, b);
+                }
+                //...GAME OVER CODE GOES HERE
+                setState(gameOverState);
+
+            }
+
+            // No collisions will occur if shifted upwards, so the tetromino becomes active there.
+            else {
+                setState(fallState);
+            }
+
+        }
+
+        // No collisions will occur, so the tetromino becomes active.
+        // It is only added to the grid once it locks.
+        else {
+
+            setState(fallState);
+        }
+    }
+
+    /**
+     * Shifts the tetromino piece one space to the left.
+     */
+    void shiftTetrominoLeft() {
+
+        // Can only be shifted if there is an active tetromino
+        if (checkTetrominoActive()) {
+
+            // Get the grouned state before shifting.
+            boolean onGroundPrev = activeTetromino.checkIfGrounded();
+
+            if (activeTetromino.shiftLeft())
+                listener.onPieceMoved();
+
+            // Check if any phases should be cancelled as a result of the shift.
+            checkCancel(onGroundPrev);
+        }
+
+    }
+
+    /**
+     * Shifts the tetromino piece one space to the right.
+     */
+    void shiftTetrominoRight() {
+
+        // Can only be shifted if there is an active tetromino
+        if (checkTetrominoActive()) {
+            boolean onGroundPrev = activeTetromino.checkIfGrounded();
+
+            if (activeTetromino.shiftRight())
+                listener.onPieceMoved();
+
+            // Check if any phases should be cancelled as a result of the shift.
+            checkCancel(onGroundPrev);
+        }
+
+    }
+
+    /**
+     * Shifts the tetromino piece as far as it can go in a direction, as a single move.
+     * <p>
+     * The distance to the wall (or the nearest block in the way) is found at once from the row masks, so the
+     * tetromino is moved straight there rather than tested one column at a time. Like a single shift, only where it
+     * starts and ends decide whether the fall or lock phase changes. Under 20G the tetromino would fall into any gap it
+     * passes over, so then it is still moved one column at a time.
+     * </p>
+     *
+     * @param direction -1 to shift to the left, or 1 to shift to the right.
+     * @since 1.2.0
+     */
+    void shiftTetrominoToWall(int direction) {
+
+        // Can only be shifted if there is an active tetromino
+        if (!checkTetrominoActive())
+            return;
+
+        boolean moved = false;
+
+        if (gravity == 0) {
+
+            // Shift a column at a time, letting the tetromino fall wherever it can on the way.
+            while (true) {
+
+                boolean onGroundPrev = activeTetromino.checkIfGrounded();
+
+                if (!(direction < 0 ? activeTetromino.shiftLeft() : activeTetromino.shiftRight()))
+                    break;
+
+                moved = true;
+                checkCancel(onGroundPrev);
+            }
+        }
+
+        else {
+
+            boolean onGroundPrev = activeTetromino.checkIfGrounded();
+            int distance = activeTetromino.getShiftDistance(direction);
+
+            if (distance > 0) {
+                activeTetromino.shiftHorizontally(direction * distance);
+                moved = true;
+            }
+
+            // Check if any phases should be cancelled as a result of the shift.
+            checkCancel(onGroundPrev);
+        }
+
+        // The whole shift counts as a single move.
+        if (moved)
+            listener.onPieceMoved();
+    }
+
+    /**
+     * Gets the highest row index that is not empty.
+     * <p>
+     * If the playfield is completely empty, -1 is returned.
+     * </p>
+     *
+     * @return The highest (lowest value) row index where the row is not empty. Otherwise -1.
+     */
+    private int getTopRow() {
+
+        // -1 is returned if all rows are empty.
+        if (topRow == gridHeight)
+            return -1;
+
+        return topRow;
+    }
+
+    /**
+     * Gets the height of the stack of locked blocks on the playfield.
+     *
+     * @return the number of rows from the bottom of the playfield up to and including the highest row that is not
+     * empty.
+     * @since 1.2.0
+     */
+    int getStackHeight() {
+
+        return gridHeight - topRow;
+    }
+
+    /**
+     * Checks whether there is nothing on the grid at the given coordinates.
+     *
+     * @param x the column of the cell to check for emptiness
+     * @param y the row of the cell to check for emptiness
+     * @return Returns true if the cell is empty, and false if not.
+     */
+    boolean checkCellEmpty(int x, int y) {
+
+        return (rowMasks[y + SENTINEL_ROWS] & cellBit(x)) == 0;
+    }
+
+    /**
+     * Checks whether or not a given row of the playfield is empty
+     *
+     * @param row: the index of the row being checked for emptiness
+     * @return true if the row is empty, false if not.
+     */
+    private boolean checkRowEmpty(int row) {
+
+        return rowCounts[row] == 0;
+    }
+
+    /**
+     * Checks whether or not the whole playfield is empty.
+     *
+     * @return true if it is empty, and false if not.
+     */
+    private boolean checkGridEmpty() {
+
+        // The grid is empty if there is no top row.
+        return topRow == gridHeight;
+    }
+
+    /**
+     * Checks whether or not a given row of the playfield is completely full of blocks
+     *
+     * @param row the index of the row being checked
+     * @return true if the row is full, and false if not.
+     */
+    private boolean checkRowFull(int row) {
+
+        return rowCounts[row] == gridWidth;
+    }
+
+    /**
+     * Used to verify whether or not a block is located on the grid at its own supposed coordinates
+     *
+     * @param block The block that is being checked.
+     * @return true if it is at the correct position, false otherwise.
+     */
+    private boolean checkBlockPosition(Block block) {
+
+        // Get the apparent coordinates of where the block is stored at
+        int x = block.getX();
+        int y = block.getY();
+
+        // The cell must be occupied, and hold the type of the block.
+        return !checkCellEmpty(x, y) && cellGrid[y][x] == block.getType();
+    }
+
+    /**
+     * Checks whether or not that the passed position lies within the grid boundaries.
+     *
+     * @param x column position to check whether it lies within bounds.
+     * @param y row position to check whether it lies within bounds.
+     * @return true if it does not lie within the boundaries, false otherwise.
+     */
+    boolean isInbounds(int x, int y) {
+
+        // will be out of bounds if x is not 0 - (<width of grid> - 1)
+        if (x < 0 || x > gridWidth - 1) {
+
+            return false;
+        }
+
+        // Will be in bounds if y is in range 0 - (<height of grid> - 1) inclusive.
+        return (y >= 0) && (y <= (gridHeight - 1));
+    }
+
+    /**
+     * Locks the active tetromino on the playfield.
+     */
+    private void lockTetromino() {
+
+        // If the tetromino locked as a result of the lock delay,
+        if (lockAccumulator > LOCK_DELAY) {
+
+            // set the main accumulator to the excess time in the lock accumulator.
+            accumulator = lockAccumulator - LOCK_DELAY;
+
+        }
+
+        // Otherwise reset the main accumulator.
+        else
+            accumulator = 0;
+
+
+        // Reset the lock accumulator.
+        lockAccumulator = 0;
+
+        // Have the tetromino add itself to the playfield.
+        activeTetromino.addToGrid();
+        model.addPlacedPiece();
+
+        //--- PATTERN PHASE START ---
+
+        // Find any full rows that are on the grid, holding them in the line clear state.
+        int fullRowCount = getFullRows(clearState.fullRows);
+
+        // If there does exist at least one full row,
+        if (fullRowCount > 0) {
+
+            // Begin the line clear phase.
+            clearState.fullRowCount = fullRowCount;
+            setState(clearState);
+        }
+
+        //--- PATTERN PHASE END ---
+
+        // For when there are no rows to be cleared.
+        else {
+
+            // Check if the lowest row the tetromino locked at was out of sight (a 'lock out').
+            if (activeTetromino.getBottomRow() < HIDDEN_ROWS) {
+
+                // A game over condition has been reached, so begin to end the game.
+                setState(gameOverState);
+
+            } else {
+                // Begin the spawn phase.
+                setState(entryState);
+            }
+
+
+        }
+
+        // The tetromino is now locked, thus no longer active.
+        activeTetromino = null;
+
+    }
+
+    /**
+     * Used to rotate the active tetromino 90 degrees clockwise.
+     */
+    void rotateClockwise() {
+
+        // Only rotate if the tetromino is active.
+        if (checkTetrominoActive()) {
+
+            // Get the grounded state before shifting.
+            boolean onGroundPrev = activeTetromino.checkIfGrounded();
+
+            // Call the method of the same name from the active tetromino.
+            if (activeTetromino.rotateClockwise())
+                listener.onPieceRotated();
+
+            // Check if any phases should be cancelled as a result of the shift.
+            checkCancel(onGroundPrev);
+        }
+    }
+
+    /**
+     * Used to rotate the active tetromino 90 degrees anticlockwise.
+     */
+    void rotateAnticlockwise() {
+
+        // Only rotate if the tetromino is active.
+        if (checkTetrominoActive()) {
+            // Get the grounded state before shifting.
+            boolean onGroundPrev = activeTetromino.checkIfGrounded();
+
+            // Call the method of the same name from the active tetromino.
+            if (activeTetromino.rotateAnticlockwise())
+                listener.onPieceRotated();
+
+            // Check if any phases should be cancelled as a result of the shift.
+            checkCancel(onGroundPrev);
+        }
+    }
+
+    /**
+     * Used to determine whether lock delay or gravity delay should be cancelled.
+     * <p>
+     * After a tetromino is shifted or rotated, it may change from grounded to not grounded, or vice versa.
+     * In the first case, lock delay should be cancelled immediately.
+     * In the second case, the tetromino should immediately stop falling and be under lock delay.
+     * </p>
+     *
+     * @param onGroundPrev was the tetromino grounded before it was shifted/rotated?
+     */
+    private void checkCancel(boolean onGroundPrev) {
+
+        // Cancel lock delay if no longer grounded.
+        if (currentState.state == State.LOCK_PHASE && !activeTetromino.checkIfGrounded()) {
+            setState(fallState, false);
+
+            // Under 20G the tetromino falls straight back onto the stack, and lock delay begins again there.
+            if (gravity == 0) {
+                dropToSurface();
+                setState(lockState, false);
+            }
+        }
+
+        // Begin lock delay if it is now grounded.
+        else if (!onGroundPrev && currentState.state == State.DROP && activeTetromino.checkIfGrounded()) {
+            // Reset accumulator.
+            accumulator = 0;
+            setState(lockState, false);
+        }
+
+    }
+
+    /**
+     * Moves the active tetromino straight down onto the stack, as 20G gravity does.
+     * <p>
+     * It counts as falling row by row, so the lock timer is reset and soft drop points are awarded for each row.
+     * </p>
+     */
+    private void dropToSurface() {
+
+        int distance = activeTetromino.getDropDistance();
+
+        // Nothing to do if the tetromino is already on the stack.
+        if (distance == 0)
+            return;
+
+        activeTetromino.shiftDown(distance);
+        lockAccumulator = 0;
+
+        // IF SOFT DROP IS ACTIVE, INCREASE SCORE BY 1 FOR EACH ROW.
+        if (softDropIsActive) {
+            for (int i = 0; i < distance; i++)
+                model.addSoftDropPoints();
+        }
+    }
+
+    /**
+     * Uses the playfield's current state to determine whether there is a controllable tetromino piece.
+     *
+     * @return true if there is an active tetromino, false otherwise.
+     */
+    private boolean checkTetrominoActive() {
+
+        // Will be active if in the fall state of lock phase.
+        return (currentState.state == State.DROP || currentState.state == State.LOCK_PHASE);
+
+    }
+
+    /**
+     * Increases the rate at which the active tetromino piece falls down.
+     */
+    void activateSoftDrop() {
+
+        // Determine the current soft drop gravity value using the soft drop factor of the handling
+        gravity = model.calculateSoftDropGravity();
+
+        // Soft drop is now active.
+        softDropIsActive = true;
+
+        // When in lock phase,
+        if (currentState.state == State.LOCK_PHASE) {
+
+            // If the active tetromino is on the ground,
+            if (activeTetromino.checkIfGrounded()) {
+
+                listener.onPieceLanded(true);
+
+                // Lock delay cancels when soft drop is activated.
+                lockTetromino();
+            }
+        }
+
+        // If in the falling state,
+        else if (currentState.state == State.DROP) {
+
+            // Set the accumulator to the soft drop gravity if it has already surpassed it.
+            if (accumulator > gravity) {
+                accumulator = gravity;
+            }
+        }
+    }
+
+    /**
+     * Sets the gravity of the active tetromino piece on the playfield back to normal.
+     */
+    void deactivateSoftDrop() {
+
+        // Set the gravity back to normal by recalculating the value depending on level.
+        gravity = model.calculateGravity();
+        // Soft drop is no longer active.
+        softDropIsActive = false;
+
+    }
+
+    /**
+     * Drops the active tetromino straight to where it would land, and locks it there.
+     * <p>
+     * The whole drop is resolved at once: the drop distance is found from the surface of the stack, the tetromino is
+     * moved there in a single step and the points for every cell fallen are awarded together.
+     * </p>
+     */
+    void hardDrop() {
+
+        // Do not apply hard drop if there is no active tetromino piece.
+        if (!checkTetrominoActive()) {
+            return;
+        }
+
+        // Soft drop ends, so set its flag to false and set the gravity back to normal.
+        softDropIsActive = false;
+        gravity = model.calculateGravity();
+
+        // Find how far the tetromino can fall, and move it straight there.
+        int distance = activeTetromino.getDropDistance();
+        activeTetromino.shiftDown(distance);
+
+        // Increase the score for each cell fallen.
+        model.addHardDropPoints(distance);
+
+        // Let the listener know the tetromino landed by hard drop.
+        listener.onPieceLanded(true);
+
+        // Skip the lock delay and instantly lock the active tetromino.
+        lockTetromino();
+    }
+
+    /**
+     * Gets the positions of any full rows on the playfield.
+     * <p>
+     * These full rows will be cleared from the grid during the line clear phase.
+     * </p>
+     *
+     * @param fullRows the array to fill with the indexes of any full rows, in ascending order. It must have room
+     *                 for every row a tetromino can lie on.
+     * @return the number of full rows found.
+     */
+    private int getFullRows(int[] fullRows) {
+
+        int count = 0;
+
+        // Iterate through each row the active tetromino locked at, from top to bottom.
+        for (int rowIndex = activeTetromino.getTopRow(); rowIndex <= activeTetromino.getBottomRow(); rowIndex++) {
+
+            // Check whether or not the row is full.
+            if (checkRowFull(rowIndex)) {
+
+                // If it is, add it to the full rows.
+                fullRows[count] = rowIndex;
+                count += 1;
+            }
+        }
+
+        return count;
+
+    }
+
+    /**
+     * Set the state (or phase) of the game
+     *
+     * @param newState    the new state the game should be set to.
+     * @param updateState determines whether the new state should be updated immediately after it is entered.
+     */
+    private void setState(StateMachine newState, boolean updateState) {
+
+        // Exit the current state, passing in the new state.
+        currentState.exitState(newState.getState());
+
+        State oldState = currentState.getState();
+
+        // Set the current state to the new state.
+        currentState = newState;
+
+        // Enter the new state, passing in the old state.
+        newState.enterState(oldState, updateState);
+    }
+
+    /**
+     * Set the state (or phase) of the game
+     *
+     * @param newState the new state the game should be set to.
+     */
+    private void setState(StateMachine newState) {
+
+        // By default, the new state should be updated upon entering.
+        setState(newState, true);
+    }
+
+
+    ////////////////////////////////////////////////////////////////
+
+    /**
+     * Represents a finite state machine for managing the various states of the game.
+     */
+    abstract class StateMachine {
+
+        private State state;
+
+        StateMachine(State state) {
+
+            this.state = state;
+        }
+
+        State getState() {
+
+            return state;
+        }
+
+        public abstract void enterState(State prev, boolean updateState);
+
+        public abstract void exitState(State next);
+
+        public abstract void updateState();
+
+        /**
+         * Gets the time until the state next changes something by itself, if there are no inputs.
+         *
+         * @return the time (in nanoseconds) until the next event.
+         */
+        public abstract long getTimeToNextEvent();
+    }
+
+    /**
+     * The neutral state of the game - where the active tetromino drops under gravity.
+     */
+    class FallState extends StateMachine {
+
+        FallState() {
+
+            super(State.DROP);
+
+        }
+
+        @Override
+        public void enterState(State prev, boolean updateState) {
+
+            if (updateState)
+                updateState();
+        }
+
+        @Override
+        public void exitState(State next) {
+
+        }
+
+        @Override
+        public void updateState() {
+
+            // Under 20G the tetromino is placed on its landing row straight away, with no time passing.
+            if (gravity == 0)
+                dropToSurface();
+
+            // When the accumulator is pass the gravity delay, the tetromino should be dropped.
+            while (gravity > 0 && accumulator > gravity) {
+
+                // Check if the active tetromino is grounded.
+                if (activeTetromino.checkIfGrounded()) {
+
+                    // Engage the lock phase to allow for lock delay.
+                    setState(lockState);
+                    return;
+                }
+
+                // Apply gravity to the active tetromino piece.
+                activeTetromino.shiftDown();
+
+                // Reset the lock accumulator every time the tetromino drops
+                lockAccumulator = 0;
+
+                // IF SOFT DROP IS ACTIVE, INCREASE SCORE BY 1.
+                if (softDropIsActive)
+                    model.addSoftDropPoints();
+
+                // Decrease the accumulator by the gravity time interval.
+                accumulator -= gravity;
+            }
+
+            // Always end by checking whether the tetromino is grounded.
+            if (activeTetromino.checkIfGrounded()) {
+
+                // Engage the lock phase to allow for lock delay.
+                setState(lockState);
+            }
+
+        }
+
+        @Override
+        public long getTimeToNextEvent() {
+
+            // The tetromino next falls once the gravity delay has passed.
+            return timeUntil(gravity, accumulator);
+        }
+    }
+
+    /**
+     * Represents the state that handles the locking of the active tetromino piece onto the playfield after managing
+     * lock delay.
+     */
+    class LockState extends StateMachine {
+
+        LockState() {
+
+            super(State.LOCK_PHASE);
+        }
+
+        @Override
+        public void enterState(State prev, boolean updateState) {
+
+            if (updateState)
+                updateState();
+        }
+
+        @Override
+        public void exitState(State next) {
+
+        }
+
+        @Override
+        public void updateState() {
+
+            // Feed the main accumulator into the lock accumulator.
+            lockAccumulator += accumulator;
+            accumulator = 0;
+
+            // If the active tetromino should lock on this frame, where lock delay has ended,
+            if (lockAccumulator > LOCK_DELAY) {
+
+                listener.onPieceLanded(false);
+
+                // Lock the tetromino piece.
+                lockTetromino();
+
+
+            }
+
+        }
+
+        @Override
+        public long getTimeToNextEvent() {
+
+            // The tetromino locks once the lock delay has passed, counting the time not yet fed to the lock timer.
+            return timeUntil(LOCK_DELAY, lockAccumulator + accumulator);
+        }
+    }
+
+    /**
+     * Represents the state of the game where there the next piece is spawned on the playfield after a specific delay.
+     */
+    class EntryState extends StateMachine {
+
+        EntryState() {
+
+            super(State.ENTRY_PHASE);
+        }
+
+        @Override
+        public void enterState(State prev, boolean updateState) {
+
+            if (updateState)
+                updateState();
+        }
+
+        @Override
+        public void exitState(State next) {
+        }
+
+        @Override
+        public void updateState() {
+
+            if (accumulator > ENTRY_DELAY) {
+
+                // activate tetromino.
+                accumulator -= ENTRY_DELAY;
+
+                model.setActiveTetromino();
+            }
+
+        }
+
+        @Override
+        public long getTimeToNextEvent() {
+
+            // The next tetromino spawns once the entry delay has passed.
+            return timeUntil(ENTRY_DELAY, accumulator);
+        }
+    }
+
+    /**
+     * Represents the state where the game clears full lines.
+     */
+    class ClearState extends StateMachine {
+
+        private static final long CLEAR_INTERVAL = 20_000_000L;
+
+        /**
+         * The indexes of the rows being cleared, in ascending order. A tetromino lies on at most four rows.
+         */
+        private final int[] fullRows = new int[4];
+
+        /**
+         * The number of rows being cleared, held at the start of {@link #fullRows}.
+         */
+        private int fullRowCount;
+
+        private long remainingDelay;
+
+        private int currentColumn;
+
+        ClearState() {
+
+            super(State.LINE_CLEAR);
+        }
+
+        @Override
+        public void enterState(State prev, boolean updateState) {
+
+            // Start the clear from the beginning.
+            remainingDelay = CLEAR_DELAY;
+            currentColumn = 0;
+
+            listener.onLinesCleared(fullRowCount);
+        }
+
+        @Override
+        public void exitState(State next) {
+
+        }
+
+        @Override
+        public void updateState() {
+
+            while (accumulator > CLEAR_INTERVAL && currentColumn < gridWidth) {
+
+                for (int i = 0; i < fullRowCount; i++) {
+
+                    setNull(currentColumn, fullRows[i]);
+                }
+
+                accumulator -= CLEAR_INTERVAL;
+                remainingDelay -= CLEAR_INTERVAL;
+                currentColumn += 1;
+            }
+
+            if (currentColumn >= gridWidth && accumulator > remainingDelay) {
+
+                shiftRowsDown(fullRows, fullRowCount);
+
+                // INCREASE LINES SCORE
+                model.increaseLines(fullRowCount);
+
+                if (!softDropIsActive)
+                    gravity = model.calculateGravity();
+
+                else
+                    gravity = model.calculateSoftDropGravity();
+
+                accumulator -= remainingDelay;
+                setState(entryState);
+            }
+        }
+
+        @Override
+        public long getTimeToNextEvent() {
+
+            // A column is emptied after each interval, and the rows fall once the rest of the delay has passed.
+            if (currentColumn < gridWidth)
+                return timeUntil(CLEAR_INTERVAL, accumulator);
+
+            return timeUntil(remainingDelay, accumulator);
+        }
+    }
+
+    class GameOverState extends StateMachine {
+
+        private static final long INITIAL_DELAY = 2_000_000_000L;
+        private static final long DELAY_INTERVAL = 50_000_000L;
+
+        private boolean hasInitialDelay;
+        private int currentRow;
+
+        // private boolean hasEnded = false;
+
+        private long remainingDelay;
+
+        GameOverState() {
+
+            super(State.GAME_OVER);
+        }
+
+        @Override
+        public void enterState(State prev, boolean updateState) {
+
+            // Start emptying the playfield from the beginning.
+            hasInitialDelay = false;
+            currentRow = 0;
+            remainingDelay = GAME_OVER_DELAY;
+        }
+
+        @Override
+        public void exitState(State next) {
+
+        }
+
+        @Override
+        public void updateState() {
+
+            if (accumulator > INITIAL_DELAY) {
+
+                hasInitialDelay = true;
+                accumulator -= INITIAL_DELAY;
+                remainingDelay -= INITIAL_DELAY;
+                listener.onGameOver();
+            }
+
+            while (hasInitialDelay && accumulator > DELAY_INTERVAL && currentRow < gridHeight) {
+
+                clearRow(currentRow);
+
+                accumulator -= DELAY_INTERVAL;
+                remainingDelay -= DELAY_INTERVAL;
+                currentRow += 1;
+            }
+
+            if (currentRow >= gridHeight && accumulator > remainingDelay) {
+
+                model.gameOver();
+
+            }
+
+
+        }
+
+        @Override
+        public long getTimeToNextEvent() {
+
+            // The playfield starts to empty after the initial delay.
+            if (!hasInitialDelay)
+                return timeUntil(INITIAL_DELAY, accumulator);
+
+            // A row is emptied after each interval.
+            if (currentRow < gridHeight)
+                return timeUntil(DELAY_INTERVAL, accumulator);
+
+            // The game ends once the rest of the delay has passed.
+            return timeUntil(remainingDelay, accumulator);
+        }
+    }
+
+
+}
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.yahoo.dodeleye.tetris.model;
+
+/**
+ * Decides the order that tetromino pieces are generated in.
+ * <p>
+ * Each game takes its pieces from its own randomizer, so games never share a source of randomness. A randomizer
+ * created from a seed always generates the same sequence of pieces, allowing a game to be replayed exactly.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+public interface Randomizer {
+
+    /**
+     * Generates the type of the next tetromino piece.
+     *
+     * @return the type of the next piece.
+     */
+    Tetromino.Type next();
+
+    /**
+     * Creates a new randomizer from this one, for a separate game.
+     * <p>
+     * The new randomizer generates its own sequence of pieces, independent of this one, but is still decided by the
+     * seed this randomizer was created with. It is given a seed of its own drawn from this randomizer, so a randomizer
+     * created from that seed generates the same sequence as the new one.
+     * </p>
+     *
+     * @return a new independent randomizer.
+     */
+    Randomizer split();
+}
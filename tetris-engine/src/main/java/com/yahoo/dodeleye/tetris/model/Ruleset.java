@@ -0,0 +1,91 @@
+package com.yahoo.dodeleye.tetris.model;
+
+/**
+ * Holds the rules a game is played with.
+ * <p>
+ * Instances cannot be changed once created, so the same ruleset can be shared by any number of games, including
+ * games running on different threads.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+public final class Ruleset {
+
+    /**
+     * The rules of the standard game.
+     */
+    public static final Ruleset STANDARD = new Ruleset(1, 10, GravityTable.STANDARD);
+
+    /**
+     * The level the game starts at.
+     */
+    private final int startLevel;
+
+    /**
+     * The number of lines that need to be cleared to move up a level.
+     */
+    private final int linesPerLevel;
+
+    /**
+     * The time it takes for a piece to fall a single row at each level.
+     */
+    private final GravityTable gravity;
+
+    /**
+     * Creates a ruleset with the standard gravity.
+     *
+     * @param startLevel    the level the game starts at, at least 1.
+     * @param linesPerLevel the number of lines that need to be cleared to move up a level, at least 1.
+     */
+    public Ruleset(int startLevel, int linesPerLevel) {
+
+        this(startLevel, linesPerLevel, GravityTable.STANDARD);
+    }
+
+    /**
+     * Creates a ruleset.
+     *
+     * @param startLevel    the level the game starts at, at least 1.
+     * @param linesPerLevel the number of lines that need to be cleared to move up a level, at least 1.
+     * @param gravity       the time it takes for a piece to fall a single row at each level.
+     */
+    public Ruleset(int startLevel, int linesPerLevel, GravityTable gravity) {
+
+        if (startLevel < 1)
+            throw new IllegalArgumentException("The start level must be at least 1: " + startLevel);
+
+        if (linesPerLevel < 1)
+            throw new IllegalArgumentException("The lines per level must be at least 1: " + linesPerLevel);
+
+        this.startLevel = startLevel;
+        this.linesPerLevel = linesPerLevel;
+        this.gravity = gravity;
+    }
+
+    /**
+     * Gets the level the game starts at.
+     *
+     * @return the starting level.
+     */
+    public int getStartLevel() {
+        return startLevel;
+    }
+
+    /**
+     * Gets the number of lines that need to be cleared to move up a level.
+     *
+     * @return the lines per level.
+     */
+    public int getLinesPerLevel() {
+        return linesPerLevel;
+    }
+
+    /**
+     * Gets the time it takes for a piece to fall a single row at each level.
+     *
+     * @return the gravity table.
+     */
+    public GravityTable getGravity() {
+        return gravity;
+    }
+}
@@ -0,0 +1,102 @@
+package com.yahoo.dodeleye.tetris.model;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Generates tetromino pieces using a '7-bag'.
+ * <p>
+ * One of each of the seven types of tetromino is placed in a bag in a random order, and the pieces are taken from the
+ * bag in that order. Once the bag is empty it is refilled and shuffled again. The bag is a fixed array that is
+ * shuffled in place, so generating pieces does not create any objects.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+public final class SevenBagRandomizer implements Randomizer {
+
+    /**
+     * The seed the randomizer was created with.
+     */
+    private final long seed;
+
+    /**
+     * The source of randomness used to shuffle the bag.
+     */
+    private final SplittableRandom random;
+
+    /**
+     * Holds one of each type of tetromino, in the order they will be generated.
+     */
+    private final Tetromino.Type[] bag = Tetromino.Type.values();
+
+    /**
+     * The index of the next type to be taken from the bag. The bag is empty once it reaches the end.
+     */
+    private int index = bag.length;
+
+    /**
+     * Creates a randomizer with a seed chosen at random.
+     */
+    public SevenBagRandomizer() {
+
+        this(ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Creates a randomizer that always generates the same sequence of pieces for the same seed.
+     *
+     * @param seed the seed deciding the sequence of pieces.
+     */
+    public SevenBagRandomizer(long seed) {
+
+        this.seed = seed;
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * Gets the seed the randomizer was created with.
+     *
+     * @return the seed of the randomizer.
+     */
+    public long getSeed() {
+
+        return seed;
+    }
+
+    @Override
+    public Tetromino.Type next() {
+
+        // Refill the bag if it is empty.
+        if (index == bag.length) {
+
+            shuffle();
+            index = 0;
+        }
+
+        return bag[index++];
+    }
+
+    @Override
+    public Randomizer split() {
+
+        // Give the new randomizer a seed of its own, so that it can be recreated from the seed it reports.
+        return new SevenBagRandomizer(random.split().nextLong());
+    }
+
+    /**
+     * Rearranges the types in the bag in a random order (a Fisher-Yates shuffle).
+     */
+    private void shuffle() {
+
+        // Swap each position, from the last to the second, with a random position at or before it.
+        for (int i = bag.length - 1; i > 0; i--) {
+
+            int j = random.nextInt(i + 1);
+
+            Tetromino.Type type = bag[i];
+            bag[i] = bag[j];
+            bag[j] = type;
+        }
+    }
+}
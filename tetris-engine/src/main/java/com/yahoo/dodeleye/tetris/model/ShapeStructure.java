@@ -1,17 +1,20 @@
 package com.yahoo.dodeleye.tetris.model;
 
-import java.awt.*;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 /**
  * Represents the structure (or shape) of a tetromino piece.
+ * <p>
+ * A single instance is shared for each type of tetromino, so it cannot be changed once created.
+ * </p>
  */
 public class ShapeStructure {
 
-    // The colour of the tetromino piece.
-    private Color color;
+    // The type of the tetromino piece.
+    private Tetromino.Type type;
 
     // The number of columns the piece would take up if placed on the grid.
     private int widthUnits;
@@ -19,22 +22,33 @@ public class ShapeStructure {
     private int heightUnits;
 
     // The relative positions of each of its blocks from a top-left origin.
-    private java.util.List<int[]> unitPositions = new ArrayList<>();
+    private final java.util.List<int[]> unitPositions;
 
-    ShapeStructure(int widthUnits, int heightUnits, int[][] unitPositions, Color color){
+    ShapeStructure(int widthUnits, int heightUnits, int[][] unitPositions, Tetromino.Type type){
 
-        this.color = color;
+        this.type = type;
         this.widthUnits = widthUnits;
         this.heightUnits = heightUnits;
-        this.unitPositions.addAll(Arrays.asList(unitPositions));
+        this.unitPositions = Collections.unmodifiableList(new ArrayList<>(Arrays.asList(unitPositions)));
     }
 
     /**
-     * Gets the colour of the tetromino piece.
-     * @return the colour of the tetromino piece.
+     * Gets the shared structure of a type of tetromino piece, in the orientation it spawns with.
+     * @param type the type of the tetromino piece.
+     * @return the structure of the type of tetromino piece.
+     * @since 1.2.0
      */
-    public Color getColor() {
-        return color;
+    public static ShapeStructure of(Tetromino.Type type) {
+        return ShapeTable.getStructure(type);
+    }
+
+    /**
+     * Gets the type of the tetromino piece, which decides the colour it is displayed with.
+     * @return the type of the tetromino piece.
+     * @since 1.2.0
+     */
+    public Tetromino.Type getType() {
+        return type;
     }
 
     /**
@@ -0,0 +1,136 @@
+package com.yahoo.dodeleye.tetris.model;
+
+/**
+ * Holds the shape data of every type of tetromino piece, computed once and shared by all tetromino instances.
+ * <p>
+ * For each type it stores the structure used for previews, and the orientations the piece can be rotated through.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+final class ShapeTable {
+
+    /**
+     * The orientations of each type of tetromino, indexed by the ordinal of the type and then the rotation index.
+     */
+    private static final Orientation[][] ORIENTATIONS = new Orientation[Tetromino.Type.values().length][];
+
+    /**
+     * The structure of each type of tetromino while in its default orientation, indexed by the ordinal of the type.
+     */
+    private static final ShapeStructure[] STRUCTURES = new ShapeStructure[Tetromino.Type.values().length];
+
+    static {
+
+        // The width and height (in square units) of each type's preview, the positions of its units in the preview,
+        // and the positions of its square units in each orientation, relative to its origin.
+        define(Tetromino.Type.I, 4, 1,
+                new int[][] { {0,  0}, {1,  0}, {2,  0}, {3,  0} },
+                new int[][][] {
+                    { {0,  0}, {1,  0}, {2,  0}, {3,  0} } ,
+                    { {2, -1}, {2,  0}, {2,  1}, {2,  2} } ,
+                });
+
+        define(Tetromino.Type.J, 3, 2,
+                new int[][] { {0,  0}, {0,  1}, {1,  1}, {2,  1} },
+                new int[][][] {
+                    { {0,  0}, {0,  1}, {1,  1}, {2,  1} } ,
+                    { {2, -1}, {1, -1}, {1,  0}, {1,  1} } ,
+                    { {2,  1}, {2,  0}, {1,  0}, {0,  0} } ,
+                    { {0,  1}, {1,  1}, {1,  0}, {1,  -1} },
+                });
+
+        define(Tetromino.Type.L, 3, 2,
+                new int[][] { {2,  0}, {0,  1}, {1,  1}, {2,  1} },
+                new int[][][] {
+                    { {0,  1}, {1,  1}, {2,  1}, {2,  0} } ,
+                    { {1, -1}, {1,  0}, {1,  1}, {2,  1} } ,
+                    { {2,  0}, {1,  0}, {0,  0}, {0,  1} } ,
+                    { {1,  1}, {1,  0}, {1, -1}, {0, -1} },
+                });
+
+        define(Tetromino.Type.O, 2, 2,
+                new int[][] { {0,  0}, {0,  1}, {1,  0}, {1,  1} },
+                new int[][][] {
+                    { {1,  0}, {1,  1}, {2,  1}, {2,  0} } ,
+                });
+
+        define(Tetromino.Type.S, 3, 2,
+                new int[][] { {1,  0}, {0,  1}, {1,  1}, {2,  0} },
+                new int[][][] {
+                    { {0,  1}, {1,  1}, {1,  0}, {2,  0} } ,
+                    { {0, -1}, {0,  0}, {1,  0}, {1,  1} } ,
+                });
+
+        define(Tetromino.Type.T, 3, 2,
+                new int[][] { {1,  0}, {0,  1}, {1,  1}, {2,  1} },
+                new int[][][] {
+                    { {1,  0}, {0,  1}, {1,  1}, {2,  1} } ,
+                    { {2,  0}, {1, -1}, {1,  0}, {1,  1} } ,
+                    { {1,  1}, {2,  0}, {1,  0}, {0,  0} } ,
+                    { {0,  0}, {1,  1}, {1,  0}, {1,  -1} },
+                });
+
+        define(Tetromino.Type.Z, 3, 2,
+                new int[][] { {0,  0}, {1,  0}, {1,  1}, {2,  1} },
+                new int[][][] {
+                    { {0,  0}, {1,  0}, {1,  1}, {2,  1} } ,
+                    { {2, -1}, {2,  0}, {1,  0}, {1,  1} } ,
+                });
+    }
+
+    private ShapeTable() {
+    }
+
+    /**
+     * Builds the table entries of a type of tetromino.
+     *
+     * @param type           the type of tetromino.
+     * @param widthUnits     the width of the preview structure, in square units.
+     * @param heightUnits    the height of the preview structure, in square units.
+     * @param unitPositions  the positions of the square units in the preview structure.
+     * @param blockPositions the positions of the square units relative to the origin, for each orientation in turn.
+     */
+    private static void define(Tetromino.Type type, int widthUnits, int heightUnits, int[][] unitPositions,
+                               int[][][] blockPositions) {
+
+        STRUCTURES[type.ordinal()] = new ShapeStructure(widthUnits, heightUnits, unitPositions, type);
+
+        // Create an orientation for each set of block positions.
+        int n = blockPositions.length;
+        Orientation[] orientations = new Orientation[n];
+        for (int i = 0; i < n; i++) {
+            orientations[i] = new Orientation(i, blockPositions[i]);
+        }
+
+        // Link each orientation to the ones reached by rotating it - the rotation index is circular.
+        for (int i = 0; i < n; i++) {
+            orientations[i].link(orientations[(i + 1) % n], orientations[(i + n - 1) % n]);
+        }
+
+        ORIENTATIONS[type.ordinal()] = orientations;
+    }
+
+    /**
+     * Gets the orientation of a type of tetromino at a given rotation index.
+     *
+     * @param type          the type of tetromino.
+     * @param rotationIndex the index of the orientation, where 0 is the orientation the piece spawns with.
+     * @return the orientation of the type at the rotation index.
+     */
+    static Orientation getOrientation(Tetromino.Type type, int rotationIndex) {
+
+        return ORIENTATIONS[type.ordinal()][rotationIndex];
+    }
+
+    /**
+     * Gets the structure of a type of tetromino while in its default orientation.
+     *
+     * @param type the type of tetromino.
+     * @return the structure of the type of tetromino.
+     */
+    static ShapeStructure getStructure(Tetromino.Type type) {
+
+        return STRUCTURES[type.ordinal()];
+    }
+}
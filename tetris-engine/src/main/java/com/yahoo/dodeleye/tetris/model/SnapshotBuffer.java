@@ -0,0 +1,132 @@
+package com.yahoo.dodeleye.tetris.model;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Hands frame snapshots of a game from the game thread to the view thread, without locks.
+ * <p>
+ * Three snapshots are passed around (triple buffering). The game thread owns the back snapshot and the view thread
+ * owns the front one, so each can use its own freely. The third is the latest published snapshot, held in an atomic
+ * reference that either thread swaps its own snapshot into. Publishing never waits for the view, the view always
+ * draws the newest complete frame, and no snapshot is ever written while it is being read.
+ * </p>
+ * <p>
+ * A snapshot that would be drawn exactly the same as the last published one is not published, so the view can tell
+ * from {@link #getFrames()} whether there is anything new to draw, such as during entry and lock delays.
+ * </p>
+ * <p>
+ * {@link #publish()} must only be called from the thread updating the game, and {@link #acquire()} and
+ * {@link #current()} only from the thread drawing it.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+public final class SnapshotBuffer {
+
+    /**
+     * The game the snapshots are taken from.
+     */
+    private final GameLogic game;
+
+    /**
+     * The snapshot being filled in by the game thread.
+     */
+    private FrameSnapshot back = new FrameSnapshot();
+
+    /**
+     * The latest published snapshot, or the one the view thread has finished with if it has already taken it.
+     */
+    private final AtomicReference<FrameSnapshot> ready = new AtomicReference<>(new FrameSnapshot());
+
+    /**
+     * The snapshot being drawn by the view thread.
+     */
+    private FrameSnapshot front = new FrameSnapshot();
+
+    /**
+     * The last snapshot published, used by the game thread to tell whether anything has changed.
+     * <p>
+     * It is only ever read once published, and cannot come back as the back snapshot until a newer one has been
+     * published in its place.
+     * </p>
+     */
+    private FrameSnapshot lastPublished;
+
+    /**
+     * The number of snapshots published so far. Only used by the game thread.
+     */
+    private long frames;
+
+    /**
+     * Creates a buffer, publishing the first snapshot of the game straight away.
+     *
+     * @param game the game to take snapshots from.
+     */
+    public SnapshotBuffer(GameLogic game) {
+
+        this.game = game;
+
+        publish();
+        acquire();
+    }
+
+    /**
+     * Takes a snapshot of the game, and makes it the latest one available to the view if anything has changed.
+     *
+     * @return true if a new snapshot was published, false if nothing had changed.
+     */
+    public boolean publish() {
+
+        game.copySnapshot(back);
+
+        // Keep the back snapshot to fill next time if it looks the same as the last one.
+        if (lastPublished != null && back.looksSameAs(lastPublished))
+            return false;
+
+        frames += 1;
+        back.setFrame(frames);
+
+        // Swap the filled snapshot in, taking whichever one was there to fill next time.
+        lastPublished = back;
+        back = ready.getAndSet(back);
+
+        return true;
+    }
+
+    /**
+     * Gets the number of snapshots published so far. It only changes when the game looks different.
+     * <p>
+     * This must only be called from the thread updating the game.
+     * </p>
+     *
+     * @return the number of the latest published snapshot.
+     */
+    public long getFrames() {
+
+        return frames;
+    }
+
+    /**
+     * Takes the latest published snapshot, if it is newer than the one already held.
+     *
+     * @return the latest snapshot of the game.
+     */
+    public FrameSnapshot acquire() {
+
+        // Only swap when there is something new, so an older snapshot is never taken back.
+        if (ready.get().getFrame() > front.getFrame())
+            front = ready.getAndSet(front);
+
+        return front;
+    }
+
+    /**
+     * Gets the snapshot last taken by {@link #acquire()}.
+     *
+     * @return the snapshot being drawn.
+     */
+    public FrameSnapshot current() {
+
+        return front;
+    }
+}
@@ -0,0 +1,643 @@
+package com.yahoo.dodeleye.tetris.model;
+
+import com.yahoo.dodeleye.tetris.BlockAlreadyAtPositonException;
+
+/**
+ * Used as the basic template for all the variants of the tetromino shapes used in the game.
+ *
+ */
+public abstract class Tetromino {
+
+    /**
+     * Stores the playfield column position of the tetromino's origin.
+     */
+    private int x;
+
+    /**
+     * Stores the playfield row position of the tetromino's origin.
+     */
+    private int y;
+
+    /**
+     * Identifiers for each type of tetromino piece.
+     */
+    public enum Type {
+
+        /**
+         * ShapeI
+         */
+        I,
+        /**
+         * ShapeJ
+         */
+        J,
+        /**
+         * ShapeL
+         */
+        L,
+        /**
+         * ShapeO
+         */
+        O,
+        /**
+         * ShapeS
+         */
+        S,
+        /**
+         * ShapeT
+         */
+        T,
+        /**
+         * ShapeZ
+         */
+        Z
+    }
+
+    /**
+     * Represents one of the two directions of rotation.
+     */
+    public enum Rotation{
+
+        /**
+         * Repesents clockwise direction.
+         */
+        CLOCKWISE(1),
+        /**
+         * Represents anticlockwise direction.
+         */
+        ANTICLOCKWISE(-1);
+
+        private final int value;
+
+        Rotation(int value){
+
+            this.value = value;
+        }
+
+        public int getValue(){
+            return value;
+        }
+    }
+
+    /**
+     * The shifts in x-position to attempt a rotation with, in order.
+     * <p>
+     *     (1): at its current position
+     *     (2): after one shift to the right from original position
+     *     (3): after one shift to the left from original position
+     * </p>
+     */
+    private static final int[] ROTATION_SHIFTS = {0, 1, -1};
+
+    /**
+     * The type of the tetromino piece.
+     */
+    private final Type type;
+
+    /**
+     * Holds the four square units that make up the tetromino piece"""
+     */
+    private Block[] squareUnits = new Block[4];
+
+    /**
+     * The current orientation of the tetromino, taken from the shared shape table.
+     * <p>
+     *     Holds the relative coordinate positions (from the tetromino's origin position) of each square unit
+     *     of the tetromino piece, and is used to keep track of the tetromino's current rotation.
+     * </p>
+     */
+    private Orientation orientation;
+
+    /**
+     * A reference to the playfield the tetromino is placed on.
+     */
+    private Playfield grid;
+
+    /**
+     * The structure of the piece while in its default orientation - its size and relative positions.
+     */
+    private ShapeStructure structure;
+
+    /**
+     * The ghost piece of the tetromino, concerning its position and colour.
+     */
+    private GhostStructure ghostPiece;
+
+    /**
+     * Creates a new tetromino instance.
+     * @param type the type of tetromino piece to be created.
+     * @return A new tetromino piece of the type corresponding to the Type passed.
+     */
+    static Tetromino create(Type type){
+
+        switch (type){
+
+            case I:
+                return new ShapeI();
+            case J:
+                return new ShapeJ();
+            case L:
+                return new ShapeL();
+
+            case O:
+                return new ShapeO();
+
+            case S:
+                return new ShapeS();
+
+            case T:
+                return new ShapeT();
+
+            case Z:
+                return new ShapeZ();
+
+            default:
+                return null;
+        }
+
+    }
+
+    /**
+     * Initialise the Tetromino instance.
+     * <p>
+     *     Its structure and orientations are both taken from the shared shape table, so only the square units and
+     *     the ghost piece are created for each instance.
+     * </p>
+     * @param type The type of the tetromino.
+     */
+    Tetromino(Type type) {
+
+        this.type = type;
+        structure = ShapeTable.getStructure(type);
+        orientation = ShapeTable.getOrientation(type, 0);
+
+        // Create the square units once - they are repositioned every time the tetromino is set up.
+        for(int i = 0; i < squareUnits.length; i++){
+
+            squareUnits[i] = new Block(0, 0, type);
+        }
+
+        ghostPiece = new GhostStructure(this);
+    }
+
+    /**
+     * Gets the type of the tetromino piece.
+     * @return the type of the tetromino piece.
+     * @since 1.2.0
+     */
+    Type getType(){
+
+        return type;
+    }
+
+
+    /**
+     * Gets the square units that make up the tetromino piece.
+     * <p>
+     *     The square units are only moved to the tetromino's current position when requested, since moving the
+     *     tetromino itself only changes its origin and orientation.
+     * </p>
+     * @return all four square units that make up the tetromino piece.
+     */
+    Block[] getBlocks(){
+
+        // Loop through each square unit of the tetromino.
+        for(int i = 0; i < squareUnits.length; i++){
+
+            // Move the block to its position on the grid.
+            squareUnits[i].setCoords(getCellX(i), getCellY(i));
+        }
+
+        return squareUnits;
+    }
+
+    /**
+     * Gets the column position of one of the tetromino's square units.
+     * @param i the index of the square unit.
+     * @return the column position of the square unit on the playfield.
+     * @since 1.2.0
+     */
+    int getCellX(int i){
+
+        return x + orientation.getCellX(i);
+    }
+
+    /**
+     * Gets the row position of one of the tetromino's square units.
+     * @param i the index of the square unit.
+     * @return the row position of the square unit on the playfield.
+     * @since 1.2.0
+     */
+    int getCellY(int i){
+
+        return y + orientation.getCellY(i);
+    }
+
+    /**
+     * Gets the number of square units that make up the tetromino piece.
+     * @return the number of square units.
+     * @since 1.2.0
+     */
+    int getCellCount(){
+
+        return squareUnits.length;
+    }
+
+    /**
+     * It sets up the tetromino piece, and its initial position on the playfield.
+     * <p>
+     *     Will be called before spawning the tetromino piece onto the playfield.
+     * </p>
+     *
+     * @param xPos the initial x-position to place the tetromino piece.
+     * @param yPos the initial x-position to place the tetromino piece.
+     * @param grid the grid the tetromino is to be placed on.
+     */
+    void setupBlocks(int xPos, int yPos, Playfield grid) {
+
+        // Keep a reference of the playfield.
+        this.grid = grid;
+
+        // Set the origin coordinates of the tetromino to the parameter values passed.
+        this.x = xPos;
+        this.y = yPos;
+
+        // The tetromino always spawns in its default orientation.
+        orientation = ShapeTable.getOrientation(type, 0);
+
+        // Calculate the position of the ghost piece.
+        calculateGhostPositions();
+    }
+
+    /**
+     * Gets the structure of the piece while in its default orientation
+     * @return the structure of the tetromino piece.
+     */
+    ShapeStructure getStructure() {
+
+        return structure;
+    }
+
+    /**
+     * Gets the ghost piece of the tetromino.
+     * @return the ghost piece of the tetromino.
+     * @since 1.1.0
+     */
+    GhostStructure getGhostStructure(){
+        return ghostPiece;
+    }
+
+    /**
+     * Moves the block horizontally along the grid, one space to the left.
+     * <p>
+     *     The tetromino is not held on the playfield while it is active, so only its origin needs to change.
+     * </p>
+     * @return true if the tetromino was shifted, false if it was blocked.
+     */
+    boolean shiftLeft() {
+
+        // Do not shift the tetromino if it would collide with the playfield or another block.
+        if(wouldCollide(-1, 0))
+            return false;
+
+        // Tetromino will be shifted left, therefore decrease x-origin by 1.
+        x -= 1;
+
+        // Calculate the new position of the ghost piece.
+        calculateGhostPositions();
+
+        return true;
+    }
+
+    /**
+     * Moves the block horizontally along the grid, one space to the right.
+     * <p>
+     *     The tetromino is not held on the playfield while it is active, so only its origin needs to change.
+     * </p>
+     * @return true if the tetromino was shifted, false if it was blocked.
+     */
+    boolean shiftRight() {
+
+        // Do not shift the tetromino if it would collide with the playfield or another block.
+        if(wouldCollide(1, 0))
+            return false;
+
+        // Tetromino will be shifted right, therefore inccrease x-origin by 1.
+        x += 1;
+
+        // Calculate the new position of the ghost piece.
+        calculateGhostPositions();
+
+        return true;
+    }
+
+    /**
+     * Moves the block horizontally along the grid, a number of spaces at once.
+     * @param columns the number of columns to move, negative to the left. It should not exceed the shift distance.
+     * @since 1.2.0
+     */
+    void shiftHorizontally(int columns) {
+
+        x += columns;
+
+        // Calculate the new position of the ghost piece.
+        calculateGhostPositions();
+    }
+
+    /**
+     * Moves the block vertically on the playfield, one space downwards.
+     */
+    void shiftDown() {
+
+        // Tetromino will be shifted downwards, therefore inccrease y-origin by 1 (as down is +ve)
+        y += 1;
+    }
+
+    /**
+     * Moves the block vertically on the playfield, a number of spaces downwards at once.
+     * @param rows the number of rows to move down, which should not exceed the drop distance.
+     * @since 1.2.0
+     */
+    void shiftDown(int rows) {
+
+        y += rows;
+    }
+
+    /**
+     * Checks whether shifting the tetromino will cause it to collide.
+     * <p>
+     *     For a given shift vector, the tetromino will be checked whether or not it will hit the grid boundaries or
+     *     overlap with another block at the position.
+     * </p>
+     * @param dx the change in x position of the tetromino to check.
+     * @param dy the change in y position of the tetromino to check.
+     * @return true if there would be a collision, false otherwise.
+     */
+    boolean wouldCollide(int dx, int dy) {
+
+        return collides(orientation, x + dx, y + dy);
+    }
+
+    /**
+     * Checks whether the tetromino would collide if it had a given orientation and origin position.
+     * <p>
+     *     Each row of the orientation's masks is tested against the matching row mask of the playfield, so the
+     *     boundaries and other blocks are both checked with a single bitwise AND per row.
+     * </p>
+     * @param o the orientation to check.
+     * @param xPos the column position of the origin to check.
+     * @param yPos the row position of the origin to check.
+     * @return true if there would be a collision, false otherwise.
+     */
+    private boolean collides(Orientation o, int xPos, int yPos){
+
+        // Loop through each row the orientation would take up.
+        for(int row = o.getTop(); row <= o.getBottom(); row++){
+
+            // A collision would occur if any of the cells the orientation would take are occupied.
+            if((grid.getRowMask(yPos + row) & Playfield.toRowBits(o.getRowBits(row), xPos)) != 0)
+                return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Gets how many rows the tetromino can drop before landing.
+     * @return the number of rows the tetromino can fall without colliding.
+     * @since 1.2.0
+     */
+    int getDropDistance(){
+
+        return grid.getDropDistance(orientation, x, y);
+    }
+
+    /**
+     * Gets how many columns the tetromino can shift in a direction before it is blocked.
+     * @param direction -1 for the left, or 1 for the right.
+     * @return the number of columns the tetromino can shift without colliding.
+     * @since 1.2.0
+     */
+    int getShiftDistance(int direction){
+
+        return grid.getShiftDistance(orientation, x, y, direction);
+    }
+
+    /**
+     * Checks whether shifting the tetromino shape down would cause it to collide.
+     * <p>
+     *     It will be checked whether or not it will hit the grid boundaries or overlap with another block if it were
+     *     shifted one row down.
+     *
+     * @return true if there would be a collision, false otherwise.
+     */
+    boolean checkIfGrounded() {
+
+        return wouldCollide(0, 1);
+    }
+
+    /**
+     * Places all the blocks of the tetromino on the playfield
+     * <p>
+     *     Should only be called once the tetromino locks, as the tetromino is not held on the playfield while it is
+     *     active. Throws BlockAlreadyAtPocitionException exception if a block is being added to a non-empty cell.
+     * </p>
+     */
+    void addToGrid() {
+
+        // Loop through each of the tetromino's blocks
+        for(Block b : getBlocks()){
+
+            // Attempt to add it to the playfield. If it would overlap another block,
+            // throw a BlockAlreadyAtPositionException exception.
+            try {
+
+                grid.addBlock(b);
+            }
+            catch (BlockAlreadyAtPositonException e) {
+
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    /**
+     * Rotates the tetromino piece at a 90 degree interval.
+     * @param rotation The direction that the tetromino piece should be rotated.
+     * @return true if the tetromino was rotated, false if every attempt was blocked.
+     */
+    private boolean rotate(Rotation rotation){
+
+        // Attempt to rotate three times before stopping, once for each x-shift value.
+        for (int dx : ROTATION_SHIFTS) {
+
+            // For when the rotation is possible,
+            if (checkRotation(rotation, dx)) {
+
+                // Look up the orientation reached by the rotation - it holds the relative positions that each
+                // block should be placed at.
+                orientation = orientation.rotated(rotation);
+
+                // Apply the shift in x-position.
+                x += dx;
+
+                // Calculate the new position of the ghost piece.
+                calculateGhostPositions();
+
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Checks whether rotating the tetromino is possible.
+     * <p>
+     *     For a given direction, the tetromino is checked if it would collide with the playfield boundaries
+     *     or other blocks already on it.
+     * </p>
+     * @param rotation the direction of rotation.
+     * @param dx the shift in x-position to be applied before rotating the tetromino.
+     * @return true if there would be a collision, false otherwise.
+     */
+    private boolean checkRotation(Rotation rotation, int dx){
+
+        // Look up the orientation the rotation would reach, and check it at the shifted position.
+        return !collides(orientation.rotated(rotation), x + dx, y);
+    }
+
+    /**
+     * Rotates the tetromino piece 90 degrees clockwise.
+     * @return true if the tetromino was rotated, false otherwise.
+     */
+    boolean rotateClockwise(){
+
+        return rotate(Rotation.CLOCKWISE);
+    }
+
+    /**
+     * Rotates the tetromino piece 90 degrees anticlockwise.
+     * @return true if the tetromino was rotated, false otherwise.
+     */
+    boolean rotateAnticlockwise(){
+
+        return rotate(Rotation.ANTICLOCKWISE);
+    }
+
+    /**
+     * Gets the highest row the tetromino lies on.
+     * <p>
+     *     Every row from this one down to {@link #getBottomRow()} holds at least one square unit of the tetromino.
+     * </p>
+     * @return the index of the highest row holding a square unit of the tetromino.
+     * @since 1.2.0
+     */
+    int getTopRow(){
+
+        return y + orientation.getTop();
+    }
+
+    /**
+     * Gets the lowest row the tetromino lies on.
+     *
+     * @return the index of the lowest row holding a square unit of the tetromino.
+     * @since 1.2.0
+     */
+    int getBottomRow(){
+
+        return y + orientation.getBottom();
+    }
+
+    /**
+     * Calculates the position of each block of the ghost piece.
+     * <p>
+     *     This method should be called when the tetromino spawns, and every time it shifts horizontally or rotates.
+     * </p>
+     *
+     * @since 1.1.0
+     */
+    private void calculateGhostPositions(){
+
+        ghostPiece.updatePositions();
+
+    }
+}
+
+/**
+ * Represents the 'I' shaped tetromino pieces.
+ */
+class ShapeI extends Tetromino {
+
+    ShapeI() {
+
+        super(Type.I);
+    }
+}
+
+/**
+ * Represents the 'J' shaped tetromino pieces.
+ */
+class ShapeJ extends Tetromino {
+
+    ShapeJ() {
+
+        super(Type.J);
+    }
+}
+
+/**
+ * Represents the 'L' shaped tetromino pieces.
+ */
+class ShapeL extends Tetromino {
+
+    ShapeL() {
+
+        super(Type.L);
+    }
+}
+
+/**
+ * Represents the 'O' shaped tetromino pieces.
+ */
+class ShapeO extends Tetromino {
+
+    ShapeO() {
+
+        super(Type.O);
+    }
+}
+
+/**
+ * Represents the 'S' shaped tetromino pieces.
+ */
+class ShapeS extends Tetromino {
+
+    ShapeS() {
+
+        super(Type.S);
+    }
+}
+
+/**
+ * Represents the 'T' shaped tetromino pieces.
+ */
+class ShapeT extends Tetromino {
+
+    ShapeT() {
+
+        super(Type.T);
+    }
+}
+
+/**
+ * Represents the 'Z' shaped tetromino pieces.
+ */
+class ShapeZ extends Tetromino {
+
+    ShapeZ() {
+
+        super(Type.Z);
+    }
+}
+
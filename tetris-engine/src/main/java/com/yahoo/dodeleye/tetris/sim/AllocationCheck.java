@@ -0,0 +1,432 @@
+package com.yahoo.dodeleye.tetris.sim;
+
+import com.yahoo.dodeleye.tetris.model.Command;
+import com.yahoo.dodeleye.tetris.model.CommandSource;
+import com.yahoo.dodeleye.tetris.model.GameListener;
+import com.yahoo.dodeleye.tetris.model.GameLogic;
+import com.yahoo.dodeleye.tetris.model.GhostStructure;
+import com.yahoo.dodeleye.tetris.model.Playfield;
+import com.yahoo.dodeleye.tetris.model.Ruleset;
+import com.yahoo.dodeleye.tetris.model.SevenBagRandomizer;
+import com.yahoo.dodeleye.tetris.model.ShapeStructure;
+import com.yahoo.dodeleye.tetris.model.Tetromino;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+/**
+ * Checks that a game allocates nothing once it is running, however many pieces are played.
+ * <p>
+ * A seeded headless game is first played by a simple stacking bot, with every command recorded into a
+ * {@link CommandLog}. The log is then played back on a fresh game with the same seed, moved along by a
+ * {@link VirtualClock}, so the game measured is driven exactly as a replay is, with nothing deciding moves while it is
+ * measured. Once the first pieces have warmed the game up, the bytes allocated by the thread are read from the JVM's
+ * per-thread allocation counter across the pieces that follow, and must not grow at all. The pieces measured take in
+ * spawning, shifting, rotating, hard drops, line clears and level ups.
+ * </p>
+ * <p>
+ * The check exits with a status of 1 if anything was allocated, so it can be run as a build step. The JVM must support
+ * the allocation counter (HotSpot does). Arguments, all optional: the seed of the game, the number of pieces measured,
+ * and the number of warm-up pieces before them.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+public final class AllocationCheck {
+
+    /**
+     * The default seed of the game.
+     */
+    private static final long DEFAULT_SEED = 1;
+
+    /**
+     * The default number of pieces measured.
+     */
+    private static final int DEFAULT_PIECES = 300;
+
+    /**
+     * The default number of pieces played before measuring, to let the JIT compile the game.
+     */
+    private static final int DEFAULT_WARMUP = 100;
+
+    /**
+     * Reads the bytes allocated by the current thread.
+     */
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private AllocationCheck() {
+    }
+
+    /**
+     * Runs the check and prints its result, exiting with a status of 1 if the game allocated anything.
+     *
+     * @param args the seed of the game, the number of pieces measured and the number of warm-up pieces, all optional.
+     */
+    public static void main(String[] args) {
+
+        long seed = args.length > 0 ? Long.parseLong(args[0]) : DEFAULT_SEED;
+        int pieces = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_PIECES;
+        int warmup = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_WARMUP;
+
+        // Record a game long enough to warm up and measure.
+        CommandLog log = new CommandLog();
+        GameLogic recorded = createGame(seed);
+        play(recorded, log.record(new StackingSource(recorded)), new VirtualClock(recorded), warmup + pieces);
+
+        if (recorded.getPiecesPlaced() < warmup + pieces)
+            throw new IllegalStateException("The bot only placed " + recorded.getPiecesPlaced() + " pieces of "
+                    + (warmup + pieces) + " with seed " + seed);
+
+        // Play the log back, warming up on its first pieces.
+        GameLogic game = createGame(seed);
+        CommandSource source = log.source();
+        VirtualClock clock = new VirtualClock(game);
+        play(game, source, clock, warmup);
+
+        long threadId = Thread.currentThread().getId();
+        int linesBefore = game.getNumOfLines();
+        int levelBefore = game.getLevel();
+
+        // Take off whatever reading the counter costs, after reading it once to let it settle.
+        THREADS.getThreadAllocatedBytes(threadId);
+        long overheadBefore = THREADS.getThreadAllocatedBytes(threadId);
+        long overhead = THREADS.getThreadAllocatedBytes(threadId) - overheadBefore;
+
+        long bytesBefore = THREADS.getThreadAllocatedBytes(threadId);
+        play(game, source, clock, warmup + pieces);
+        long bytes = THREADS.getThreadAllocatedBytes(threadId) - bytesBefore - overhead;
+
+        System.out.printf("%d pieces, %d lines and %d levels after %d warm-up pieces: %d bytes allocated%n",
+                game.getPiecesPlaced() - warmup, game.getNumOfLines() - linesBefore, game.getLevel() - levelBefore,
+                warmup, bytes);
+
+        // A replay that ends early has stopped measuring the game it was meant to.
+        if (game.getPiecesPlaced() < warmup + pieces)
+            throw new IllegalStateException("The replay ended after " + game.getPiecesPlaced() + " pieces");
+
+        if (bytes > 0)
+            System.exit(1);
+    }
+
+    /**
+     * Creates a headless game.
+     *
+     * @param seed the seed of the game.
+     * @return the new game.
+     */
+    private static GameLogic createGame(long seed) {
+
+        return new GameLogic(GameListener.NONE, 0, new SevenBagRandomizer(seed), Ruleset.STANDARD);
+    }
+
+    /**
+     * Plays a game until it has placed a number of pieces, or ends.
+     *
+     * @param game   the game to play.
+     * @param source the source of the commands of the game.
+     * @param clock  the clock moving the game forward.
+     * @param pieces the number of pieces to play up to, counted from the start of the game.
+     */
+    private static void play(GameLogic game, CommandSource source, GameClock clock, int pieces) {
+
+        // Apply the commands due before each step of the clock, as a batch does.
+        while (game.getPiecesPlaced() < pieces && !game.checkGameOver()) {
+
+            game.applyCommands(source);
+            clock.step();
+        }
+    }
+
+    /**
+     * Plays each piece as soon as it spawns, at the rotation and column that leave the flattest stack.
+     * <p>
+     * Every placement of the piece is tried against the stack, and scored by the weights of Yiyuan Lee's El-Tetris:
+     * the heights of the columns, the lines cleared, the holes left under blocks and the differences between the
+     * heights of neighbouring columns. The moves to reach the best one are all given at the time the piece spawns,
+     * so it has not yet fallen. It only decides the moves of the game recorded, so it is not itself checked.
+     * </p>
+     */
+    private static final class StackingSource implements CommandSource {
+
+        /**
+         * The rows at the top of the grid the stack is not read from, as the piece spawns into them.
+         */
+        private static final int SPAWN_ROWS = Playfield.HIDDEN_ROWS + 2;
+
+        /**
+         * The game being played.
+         */
+        private final GameLogic game;
+
+        /**
+         * The width and height of the grid.
+         */
+        private final int gridWidth, gridHeight;
+
+        /**
+         * The moves for the current piece, in order.
+         */
+        private final Command[] moves = new Command[Playfield.getGridWidth() + 4];
+
+        /**
+         * The number of moves for the current piece, and the place of the next one to give.
+         */
+        private int moveCount, nextMove;
+
+        /**
+         * The number of pieces placed when the current piece was planned, or -1 before the first.
+         */
+        private int plannedAt = -1;
+
+        /**
+         * Creates a source.
+         *
+         * @param game the game being played.
+         */
+        StackingSource(GameLogic game) {
+
+            this.game = game;
+            this.gridWidth = Playfield.getGridWidth();
+            this.gridHeight = Playfield.HIDDEN_ROWS + Playfield.getVisibleGridHeight();
+        }
+
+        @Override
+        public Command poll(long time) {
+
+            // Plan each piece once, as soon as it is in play.
+            GhostStructure ghost = game.getGhostStructure();
+
+            if (ghost != null && plannedAt != game.getPiecesPlaced()) {
+                plannedAt = game.getPiecesPlaced();
+                plan(ghost.getType());
+            }
+
+            return nextMove < moveCount ? moves[nextMove++] : null;
+        }
+
+        /**
+         * Finds the best placement of a piece and sets the moves to reach it.
+         *
+         * @param type the type of the piece.
+         */
+        private void plan(Tetromino.Type type) {
+
+            boolean[][] stack = readStack();
+
+            double bestScore = Double.NEGATIVE_INFINITY;
+            int bestRotation = 0, bestColumn = 0, bestWidth = 0;
+
+            int[][] cells = unitCells(type);
+
+            for (int rotation = 0; rotation < 4; rotation++) {
+
+                int width = 0;
+                for (int[] cell : cells)
+                    width = Math.max(width, cell[0] + 1);
+
+                for (int column = 0; column + width <= gridWidth; column++) {
+
+                    double score = score(stack, cells, column);
+
+                    if (score > bestScore) {
+                        bestScore = score;
+                        bestRotation = rotation;
+                        bestColumn = column;
+                        bestWidth = width;
+                    }
+                }
+
+                cells = rotate(cells);
+            }
+
+            moveCount = 0;
+            nextMove = 0;
+
+            // Turn the shortest way round.
+            if (bestRotation == 3)
+                moves[moveCount++] = Command.ROTATE_ANTICLOCKWISE;
+            for (int i = 0; i < bestRotation && bestRotation < 3; i++)
+                moves[moveCount++] = Command.ROTATE_CLOCKWISE;
+
+            // Shift from whichever wall is closer.
+            int fromRight = gridWidth - bestWidth - bestColumn;
+
+            if (bestColumn <= fromRight) {
+                moves[moveCount++] = Command.SHIFT_LEFT_TO_WALL;
+                for (int i = 0; i < bestColumn; i++)
+                    moves[moveCount++] = Command.SHIFT_RIGHT;
+            } else {
+                moves[moveCount++] = Command.SHIFT_RIGHT_TO_WALL;
+                for (int i = 0; i < fromRight; i++)
+                    moves[moveCount++] = Command.SHIFT_LEFT;
+            }
+
+            moves[moveCount++] = Command.HARD_DROP;
+        }
+
+        /**
+         * Reads which cells of the grid hold a locked block, leaving out the rows the active piece spawns into.
+         *
+         * @return the filled cells, by row then column.
+         */
+        private boolean[][] readStack() {
+
+            Tetromino.Type[][] matrix = game.getCellMatrix();
+            boolean[][] stack = new boolean[gridHeight][gridWidth];
+
+            for (int y = SPAWN_ROWS; y < gridHeight; y++) {
+
+                for (int x = 0; x < gridWidth; x++)
+                    stack[y][x] = matrix[y][x] != null;
+            }
+
+            return stack;
+        }
+
+        /**
+         * Scores dropping a piece onto the stack at a column.
+         *
+         * @param stack  the filled cells of the grid.
+         * @param cells  the cells of the piece, with its left-most and top-most cells at 0.
+         * @param column the column of the left-most cell of the piece.
+         * @return the score of the placement, higher being better.
+         */
+        private double score(boolean[][] stack, int[][] cells, int column) {
+
+            // Drop the piece until it would overlap the stack or the floor.
+            int drop = 0;
+            while (fits(stack, cells, column, drop + 1))
+                drop += 1;
+
+            boolean[][] after = new boolean[gridHeight][];
+            for (int y = 0; y < gridHeight; y++)
+                after[y] = stack[y].clone();
+
+            for (int[] cell : cells)
+                after[cell[1] + drop][cell[0] + column] = true;
+
+            // Remove the full rows, counting them.
+            int lines = 0;
+            boolean[][] cleared = new boolean[gridHeight][gridWidth];
+            int row = gridHeight - 1;
+
+            for (int y = gridHeight - 1; y >= 0; y--) {
+
+                boolean full = true;
+                for (boolean filled : after[y])
+                    full &= filled;
+
+                if (full)
+                    lines += 1;
+                else
+                    cleared[row--] = after[y];
+            }
+
+            int aggregateHeight = 0, holes = 0, bumpiness = 0, previous = -1;
+
+            for (int x = 0; x < gridWidth; x++) {
+
+                int height = 0;
+
+                for (int y = 0; y < gridHeight; y++) {
+
+                    if (cleared[y][x]) {
+                        if (height == 0)
+                            height = gridHeight - y;
+                    } else if (height > 0) {
+                        holes += 1;
+                    }
+                }
+
+                aggregateHeight += height;
+
+                if (previous >= 0)
+                    bumpiness += Math.abs(height - previous);
+
+                previous = height;
+            }
+
+            return -0.510066 * aggregateHeight + 0.760666 * lines - 0.35663 * holes - 0.184483 * bumpiness;
+        }
+
+        /**
+         * Checks whether a piece fits in the grid without overlapping the stack.
+         *
+         * @param stack  the filled cells of the grid.
+         * @param cells  the cells of the piece, with its left-most and top-most cells at 0.
+         * @param column the column of the left-most cell of the piece.
+         * @param row    the row of the top-most cell of the piece.
+         * @return true if the piece fits.
+         */
+        private boolean fits(boolean[][] stack, int[][] cells, int column, int row) {
+
+            for (int[] cell : cells) {
+
+                int y = cell[1] + row;
+
+                if (y >= gridHeight || stack[y][cell[0] + column])
+                    return false;
+            }
+
+            return true;
+        }
+
+        /**
+         * Gets the cells of a piece in its spawn orientation.
+         *
+         * @param type the type of the piece.
+         * @return the cells of the piece, each as its column then row, with its left-most and top-most cells at 0.
+         */
+        private static int[][] unitCells(Tetromino.Type type) {
+
+            List<int[]> positions = ShapeStructure.of(type).getUnitPositions();
+            int[][] cells = new int[positions.size()][];
+
+            for (int i = 0; i < cells.length; i++)
+                cells[i] = positions.get(i).clone();
+
+            return normalise(cells);
+        }
+
+        /**
+         * Turns the cells of a piece a quarter turn clockwise.
+         *
+         * @param cells the cells of the piece.
+         * @return the turned cells, with the left-most and top-most cells at 0.
+         */
+        private static int[][] rotate(int[][] cells) {
+
+            int[][] turned = new int[cells.length][];
+
+            // Rows grow downwards, so a clockwise turn takes (x, y) to (-y, x).
+            for (int i = 0; i < cells.length; i++)
+                turned[i] = new int[]{-cells[i][1], cells[i][0]};
+
+            return normalise(turned);
+        }
+
+        /**
+         * Moves the cells of a piece so that its left-most and top-most cells are at 0.
+         *
+         * @param cells the cells to move, which are changed in place.
+         * @return the cells.
+         */
+        private static int[][] normalise(int[][] cells) {
+
+            int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE;
+
+            for (int[] cell : cells) {
+                minX = Math.min(minX, cell[0]);
+                minY = Math.min(minY, cell[1]);
+            }
+
+            for (int[] cell : cells) {
+                cell[0] -= minX;
+                cell[1] -= minY;
+            }
+
+            return cells;
+        }
+    }
+}
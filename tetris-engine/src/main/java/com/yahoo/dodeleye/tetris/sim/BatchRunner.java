@@ -0,0 +1,244 @@
+package com.yahoo.dodeleye.tetris.sim;
+
+import com.yahoo.dodeleye.tetris.model.CommandSource;
+import com.yahoo.dodeleye.tetris.model.GameListener;
+import com.yahoo.dodeleye.tetris.model.GameLogic;
+import com.yahoo.dodeleye.tetris.model.Ruleset;
+import com.yahoo.dodeleye.tetris.model.SevenBagRandomizer;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Plays batches of headless games with a bot policy or another source of commands, and summarises their results.
+ * <p>
+ * Each game is given a seed from a range, so a batch always plays out the same for the same policy, ruleset and
+ * seeds. The range is split in half repeatedly with fork-join tasks until each task holds only a few games, letting
+ * idle threads steal work. Games share nothing but the (immutable) ruleset, and each task builds its own summary
+ * which is combined on the way back up, so there is no contention between threads.
+ * </p>
+ * <p>
+ * By default games are moved along by a {@link VirtualClock}, so each one costs as many updates as it has events
+ * rather than one for every time step.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+public final class BatchRunner {
+
+    /**
+     * The default time limit of each game, in seconds of game time (one hour).
+     */
+    public static final double DEFAULT_MAX_TIME = 3600;
+
+    /**
+     * The most games a task plays itself, rather than splitting them between two smaller tasks.
+     */
+    private static final int GAMES_PER_TASK = 16;
+
+    /**
+     * Creates the source of the commands for each game.
+     */
+    private final Function<GameLogic, ? extends CommandSource> sources;
+
+    /**
+     * The rules every game is played with.
+     */
+    private final Ruleset ruleset;
+
+    /**
+     * Creates the clock that moves each game forward.
+     */
+    private final Function<GameLogic, ? extends GameClock> clocks;
+
+    /**
+     * The time limit of each game, in seconds of game time.
+     */
+    private final double maxTime;
+
+    /**
+     * Creates a runner that plays games by their events, up to the default time limit.
+     *
+     * @param policies creates a new policy for each game.
+     * @param ruleset  the rules every game is played with.
+     */
+    public BatchRunner(Supplier<? extends BotPolicy> policies, Ruleset ruleset) {
+
+        this(policies, ruleset, VirtualClock::new, DEFAULT_MAX_TIME);
+    }
+
+    /**
+     * Creates a runner.
+     *
+     * @param policies creates a new policy for each game.
+     * @param ruleset  the rules every game is played with.
+     * @param clocks   creates the clock that moves each game forward.
+     * @param maxTime  the time limit of each game, in seconds of game time. Games still going at the limit are stopped.
+     */
+    public BatchRunner(Supplier<? extends BotPolicy> policies, Ruleset ruleset,
+                       Function<GameLogic, ? extends GameClock> clocks, double maxTime) {
+
+        this(ruleset, game -> new BotSource(game, policies.get()), clocks, maxTime);
+    }
+
+    /**
+     * Creates a runner that plays games from any source of commands, such as a replay or a scripted sequence.
+     *
+     * @param ruleset the rules every game is played with.
+     * @param sources creates the source of the commands for each game.
+     * @param clocks  creates the clock that moves each game forward.
+     * @param maxTime the time limit of each game, in seconds of game time. Games still going at the limit are stopped.
+     */
+    public BatchRunner(Ruleset ruleset, Function<GameLogic, ? extends CommandSource> sources,
+                       Function<GameLogic, ? extends GameClock> clocks, double maxTime) {
+
+        this.sources = sources;
+        this.ruleset = ruleset;
+        this.clocks = clocks;
+        this.maxTime = maxTime;
+    }
+
+    /**
+     * Plays a batch of games on the common fork-join pool.
+     *
+     * @param firstSeed the seed of the first game. The other games use the seeds that follow it.
+     * @param games     the number of games to play.
+     * @return the summary of the results of the games.
+     */
+    public BatchSummary run(long firstSeed, int games) {
+
+        return run(firstSeed, games, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Plays a batch of games on a given fork-join pool.
+     *
+     * @param firstSeed the seed of the first game. The other games use the seeds that follow it.
+     * @param games     the number of games to play.
+     * @param pool      the pool of threads to play the games on.
+     * @return the summary of the results of the games.
+     */
+    public BatchSummary run(long firstSeed, int games, ForkJoinPool pool) {
+
+        return pool.invoke(new BatchTask(firstSeed, firstSeed + games));
+    }
+
+    /**
+     * Plays a single game until it ends or reaches the time limit, and adds its results to a summary.
+     *
+     * @param seed    the seed of the game.
+     * @param summary the summary to add the results to.
+     */
+    private void playGame(long seed, BatchSummary summary) {
+
+        GameLogic game = new GameLogic(GameListener.NONE, 0, new SevenBagRandomizer(seed), ruleset);
+        CommandSource source = sources.apply(game);
+        GameClock clock = clocks.apply(game);
+
+        // Apply the commands due before each step of the clock, until the game ends.
+        while (!game.checkGameOver() && clock.getTime() < maxTime) {
+
+            game.applyCommands(source);
+            clock.step();
+        }
+
+        summary.add(game, clock.getTime());
+    }
+
+    /**
+     * Plays the games of a range of seeds, splitting the range between smaller tasks when it is large.
+     */
+    private class BatchTask extends RecursiveTask<BatchSummary> {
+
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The first seed of the range, and the seed after the last one.
+         */
+        private final long start, end;
+
+        BatchTask(long start, long end) {
+
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected BatchSummary compute() {
+
+            // Play small ranges directly.
+            if (end - start <= GAMES_PER_TASK) {
+
+                BatchSummary summary = new BatchSummary();
+
+                for (long seed = start; seed < end; seed++) {
+                    playGame(seed, summary);
+                }
+
+                return summary;
+            }
+
+            // Otherwise split the range in half, leaving the first half for other threads to take.
+            long middle = start + (end - start) / 2;
+
+            BatchTask first = new BatchTask(start, middle);
+            first.fork();
+
+            BatchSummary second = new BatchTask(middle, end).compute();
+
+            return first.join().combine(second);
+        }
+    }
+
+    /**
+     * Plays a batch of games from the command line and prints the summary.
+     * <p>
+     * Arguments: the first seed, the number of games, and optionally the name of a {@link BotPolicy} class with a
+     * no-argument constructor. The hard drop baseline policy is used if no class is given.
+     * </p>
+     *
+     * @param args the command line arguments.
+     * @throws ReflectiveOperationException if the policy class cannot be created.
+     */
+    public static void main(String[] args) throws ReflectiveOperationException {
+
+        if (args.length < 2) {
+            System.err.println("Usage: BatchRunner <first seed> <games> [policy class]");
+            return;
+        }
+
+        long firstSeed = Long.parseLong(args[0]);
+        int games = Integer.parseInt(args[1]);
+
+        Supplier<BotPolicy> policies = () -> BotPolicy.HARD_DROP;
+
+        // Create a new instance of the named policy class for each game.
+        if (args.length > 2) {
+
+            Class<? extends BotPolicy> policyClass = Class.forName(args[2]).asSubclass(BotPolicy.class);
+
+            // Fail straight away if the class has no no-argument constructor.
+            policyClass.getDeclaredConstructor();
+
+            policies = () -> {
+                try {
+                    return policyClass.getDeclaredConstructor().newInstance();
+                } catch (ReflectiveOperationException e) {
+                    throw new IllegalStateException(e);
+                }
+            };
+        }
+
+        long startTime = System.nanoTime();
+
+        BatchSummary summary = new BatchRunner(policies, Ruleset.STANDARD).run(firstSeed, games);
+
+        double elapsed = (System.nanoTime() - startTime) / 1e9;
+
+        System.out.println(summary);
+        System.out.printf("%.2fs on %d threads (%.0f games/s)%n",
+                elapsed, ForkJoinPool.commonPool().getParallelism(), games / elapsed);
+    }
+}
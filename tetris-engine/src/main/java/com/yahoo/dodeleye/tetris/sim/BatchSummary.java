@@ -0,0 +1,151 @@
+package com.yahoo.dodeleye.tetris.sim;
+
+import com.yahoo.dodeleye.tetris.model.GameLogic;
+
+/**
+ * Holds the summary statistics of the results of a batch of simulated games.
+ *
+ * @since 1.2.0
+ */
+public final class BatchSummary {
+
+    /**
+     * The final score of each game.
+     */
+    private final Statistic score = new Statistic();
+
+    /**
+     * The number of lines cleared in each game.
+     */
+    private final Statistic lines = new Statistic();
+
+    /**
+     * The level each game reached.
+     */
+    private final Statistic level = new Statistic();
+
+    /**
+     * The number of pieces placed in each game.
+     */
+    private final Statistic pieces = new Statistic();
+
+    /**
+     * The length of each game, in seconds of game time.
+     */
+    private final Statistic seconds = new Statistic();
+
+    /**
+     * The number of games that ended by game over, rather than by reaching the time limit.
+     */
+    private long gamesOver = 0;
+
+    /**
+     * Adds the results of a finished game.
+     *
+     * @param game    the game that was played.
+     * @param seconds the length of the game, in seconds of game time.
+     */
+    void add(GameLogic game, double seconds) {
+
+        score.add(game.getCurrentScore());
+        lines.add(game.getNumOfLines());
+        level.add(game.getLevel());
+        pieces.add(game.getPiecesPlaced());
+        this.seconds.add(seconds);
+
+        if (game.checkGameOver())
+            gamesOver += 1;
+    }
+
+    /**
+     * Adds the results of another batch to this one.
+     *
+     * @param other the summary of the other batch.
+     * @return this summary.
+     */
+    BatchSummary combine(BatchSummary other) {
+
+        score.combine(other.score);
+        lines.combine(other.lines);
+        level.combine(other.level);
+        pieces.combine(other.pieces);
+        seconds.combine(other.seconds);
+        gamesOver += other.gamesOver;
+
+        return this;
+    }
+
+    /**
+     * Gets the number of games in the batch.
+     *
+     * @return the number of games played.
+     */
+    public long getGames() {
+        return score.getCount();
+    }
+
+    /**
+     * Gets the number of games that ended by game over, rather than by reaching the time limit.
+     *
+     * @return the number of games that ended by game over.
+     */
+    public long getGamesOver() {
+        return gamesOver;
+    }
+
+    /**
+     * Gets the statistics of the final score of each game.
+     *
+     * @return the score statistics.
+     */
+    public Statistic getScore() {
+        return score;
+    }
+
+    /**
+     * Gets the statistics of the number of lines cleared in each game.
+     *
+     * @return the lines statistics.
+     */
+    public Statistic getLines() {
+        return lines;
+    }
+
+    /**
+     * Gets the statistics of the level each game reached.
+     *
+     * @return the level statistics.
+     */
+    public Statistic getLevel() {
+        return level;
+    }
+
+    /**
+     * Gets the statistics of the number of pieces placed in each game.
+     *
+     * @return the pieces statistics.
+     */
+    public Statistic getPieces() {
+        return pieces;
+    }
+
+    /**
+     * Gets the statistics of the length of each game, in seconds of game time.
+     *
+     * @return the game length statistics.
+     */
+    public Statistic getSeconds() {
+        return seconds;
+    }
+
+    @Override
+    public String toString() {
+
+        return "games:   " + getGames() + " (" + gamesOver + " game over)\n"
+                + "score:   " + score + "\n"
+                + "lines:   " + lines + "\n"
+                + "level:   " + level + "\n"
+                + "pieces:  " + pieces + "\n"
+                + "seconds: " + seconds;
+    }
+}
@@ -0,0 +1,31 @@
+package com.yahoo.dodeleye.tetris.sim;
+
+import com.yahoo.dodeleye.tetris.model.Command;
+import com.yahoo.dodeleye.tetris.model.GameLogic;
+
+/**
+ * Decides the inputs of a game played without a player.
+ * <p>
+ * The policy is given the game before every step of its clock, and may make one of the moves a player could by
+ * returning its {@link Command}. The game is only read from, never changed, by the policy: the move is applied by the
+ * game through a {@link BotSource}, the same way as the moves of a player. A separate instance is used for each game,
+ * so a policy may keep its own state between steps.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+public interface BotPolicy {
+
+    /**
+     * A policy that hard drops every piece as soon as it spawns, used as a baseline.
+     */
+    BotPolicy HARD_DROP = game -> Command.HARD_DROP;
+
+    /**
+     * Decides the move for the current step of the game.
+     *
+     * @param game the game being played.
+     * @return the move to make, or null to make no move this step.
+     */
+    Command act(GameLogic game);
+}
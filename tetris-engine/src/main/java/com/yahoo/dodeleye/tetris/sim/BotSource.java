@@ -0,0 +1,52 @@
+package com.yahoo.dodeleye.tetris.sim;
+
+import com.yahoo.dodeleye.tetris.model.Command;
+import com.yahoo.dodeleye.tetris.model.CommandSource;
+import com.yahoo.dodeleye.tetris.model.GameLogic;
+
+/**
+ * Supplies the commands of a bot policy, asking the policy for a single move at each new game time.
+ *
+ * @since 1.2.0
+ */
+public final class BotSource implements CommandSource {
+
+    /**
+     * The game being played.
+     */
+    private final GameLogic game;
+
+    /**
+     * Decides the moves.
+     */
+    private final BotPolicy policy;
+
+    /**
+     * The game time the policy was last asked for a move at.
+     */
+    private long askedAt = -1;
+
+    /**
+     * Creates a source.
+     *
+     * @param game   the game being played, which the policy decides its moves from.
+     * @param policy decides the moves.
+     */
+    public BotSource(GameLogic game, BotPolicy policy) {
+
+        this.game = game;
+        this.policy = policy;
+    }
+
+    @Override
+    public Command poll(long time) {
+
+        // The policy gets one move per step, so a policy that always has a move cannot hold up the game.
+        if (time == askedAt)
+            return null;
+
+        askedAt = time;
+
+        return policy.act(game);
+    }
+}
@@ -0,0 +1,243 @@
+package com.yahoo.dodeleye.tetris.sim;
+
+import com.yahoo.dodeleye.tetris.model.Command;
+import com.yahoo.dodeleye.tetris.model.CommandSource;
+import com.yahoo.dodeleye.tetris.model.GameLogic;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.Arrays;
+
+/**
+ * Holds a sequence of commands, each with the game time it is applied at.
+ * <p>
+ * A log can be written out by hand as a scripted test sequence, recorded from any other source while a game is played,
+ * and saved to and loaded from a replay file. Played back with the same seed and ruleset, it gives exactly the same
+ * game.
+ * </p>
+ * <p>
+ * A replay file is plain text, with one command on each line: the game time in nanoseconds, then the name of the
+ * command, such as {@code 1500000000 HARD_DROP}. Blank lines and lines starting with {@code #} are skipped.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+public final class CommandLog {
+
+    /**
+     * The game time of each command, in nanoseconds, in order.
+     */
+    private long[] times = new long[64];
+
+    /**
+     * The commands, in order.
+     */
+    private Command[] commands = new Command[64];
+
+    /**
+     * The number of commands held.
+     */
+    private int size;
+
+    /**
+     * Adds a command to the end of the log.
+     *
+     * @param time    the game time to apply the command at, in nanoseconds. No earlier than the last command.
+     * @param command the command.
+     * @return this log, so a scripted sequence can be written as a chain of calls.
+     */
+    public CommandLog add(long time, Command command) {
+
+        if (size > 0 && time < times[size - 1])
+            throw new IllegalArgumentException(
+                    "Commands must be added in order of time: " + time + " is before " + times[size - 1]);
+
+        // Grow the arrays when full.
+        if (size == times.length) {
+            times = Arrays.copyOf(times, size * 2);
+            commands = Arrays.copyOf(commands, size * 2);
+        }
+
+        times[size] = time;
+        commands[size] = command;
+        size += 1;
+
+        return this;
+    }
+
+    /**
+     * Gets the number of commands in the log.
+     *
+     * @return the number of commands.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the game time of a command.
+     *
+     * @param index the place of the command in the log.
+     * @return the time the command is applied at, in nanoseconds.
+     */
+    public long getTime(int index) {
+
+        checkIndex(index);
+        return times[index];
+    }
+
+    /**
+     * Gets a command.
+     *
+     * @param index the place of the command in the log.
+     * @return the command.
+     */
+    public Command getCommand(int index) {
+
+        checkIndex(index);
+        return commands[index];
+    }
+
+    /**
+     * Creates a source that plays the commands of the log back, each once the game reaches its time.
+     * <p>
+     * Commands are only given when the game asks for them, so they are applied late if the game is not asked at
+     * exactly their times. {@link #replay(GameLogic)} moves a game to each time for an exact replay.
+     * </p>
+     *
+     * @return a new source, starting from the first command.
+     */
+    public CommandSource source() {
+
+        return new CommandSource() {
+
+            /**
+             * The place of the next command to give.
+             */
+            private int next;
+
+            @Override
+            public Command poll(long time) {
+
+                if (next == size || times[next] > time)
+                    return null;
+
+                return commands[next++];
+            }
+        };
+    }
+
+    /**
+     * Creates a source that gives the commands of another source, adding each to the end of this log as it goes.
+     *
+     * @param source the source to record.
+     * @return a new source, giving the same commands as the one recorded.
+     */
+    public CommandSource record(CommandSource source) {
+
+        return time -> {
+
+            Command command = source.poll(time);
+
+            if (command != null)
+                add(time, command);
+
+            return command;
+        };
+    }
+
+    /**
+     * Plays every command of the log on a game, moving the game forward to the exact time of each one.
+     * <p>
+     * Between commands the game is moved straight from one of its events to the next, as by a {@link VirtualClock},
+     * so the replay is exact however far apart the commands are. The game is left at the time of the last command.
+     * </p>
+     *
+     * @param game the game to play, at the start of the game with the seed and ruleset the log was recorded with.
+     */
+    public void replay(GameLogic game) {
+
+        for (int i = 0; i < size; i++) {
+
+            // Move the game to the time of the command, one event at a time.
+            while (game.getTime() < times[i]) {
+
+                long delay = Math.min(game.getTimeToNextEvent(), times[i] - game.getTime());
+                game.updateNanos(delay);
+            }
+
+            game.apply(commands[i]);
+        }
+    }
+
+    /**
+     * Writes the log out as a replay file.
+     *
+     * @param out where to write the log. It is not closed.
+     * @throws IOException if the log cannot be written.
+     */
+    public void write(Writer out) throws IOException {
+
+        for (int i = 0; i < size; i++) {
+
+            out.write(Long.toString(times[i]));
+            out.write(' ');
+            out.write(commands[i].name());
+            out.write(System.lineSeparator());
+        }
+
+        out.flush();
+    }
+
+    /**
+     * Reads a log from a replay file.
+     *
+     * @param in where to read the log from. It is not closed.
+     * @return the log read.
+     * @throws IOException if the log cannot be read, or a line is not a valid command.
+     */
+    public static CommandLog read(Reader in) throws IOException {
+
+        CommandLog log = new CommandLog();
+        BufferedReader reader = new BufferedReader(in);
+
+        int lineNumber = 0;
+
+        for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+
+            lineNumber += 1;
+            line = line.trim();
+
+            // Skip blank lines and comments.
+            if (line.isEmpty() || line.startsWith("#"))
+                continue;
+
+            String[] parts = line.split("\\s+");
+
+            try {
+                if (parts.length != 2)
+                    throw new IllegalArgumentException("Expected a time and a command");
+
+                log.add(Long.parseLong(parts[0]), Command.valueOf(parts[1]));
+
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Invalid command on line " + lineNumber + ": " + line, e);
+            }
+        }
+
+        return log;
+    }
+
+    /**
+     * Checks that an index is the place of a command in the log.
+     *
+     * @param index the index to check.
+     */
+    private void checkIndex(int index) {
+
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("No command at place " + index + " of " + size);
+    }
+}
@@ -0,0 +1,69 @@
+package com.yahoo.dodeleye.tetris.sim;
+
+import com.yahoo.dodeleye.tetris.model.GameLogic;
+
+/**
+ * A clock that updates a game by the same length of time on every step, like the game thread does.
+ * <p>
+ * Playing a game this way costs one update for every time step, whether or not anything happens in it.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+public final class FixedStepClock implements GameClock {
+
+    /**
+     * The length of each step of the game thread, in seconds.
+     */
+    public static final double DEFAULT_TICK = 0.01;
+
+    /**
+     * The game the clock updates.
+     */
+    private final GameLogic game;
+
+    /**
+     * The length of each step, in nanoseconds.
+     */
+    private final long tick;
+
+    /**
+     * The number of steps taken so far.
+     */
+    private long steps;
+
+    /**
+     * Creates a clock that steps by the time step of the game thread.
+     *
+     * @param game the game to update.
+     */
+    public FixedStepClock(GameLogic game) {
+
+        this(game, DEFAULT_TICK);
+    }
+
+    /**
+     * Creates a clock.
+     *
+     * @param game the game to update.
+     * @param tick the length of each step, in seconds.
+     */
+    public FixedStepClock(GameLogic game, double tick) {
+
+        this.game = game;
+        this.tick = Math.round(tick * 1e9);
+    }
+
+    @Override
+    public double getTime() {
+
+        return steps * tick / 1e9;
+    }
+
+    @Override
+    public void step() {
+
+        game.updateNanos(tick);
+        steps += 1;
+    }
+}
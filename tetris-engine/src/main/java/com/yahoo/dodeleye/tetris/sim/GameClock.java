@@ -0,0 +1,25 @@
+package com.yahoo.dodeleye.tetris.sim;
+
+/**
+ * Moves a game forward through time.
+ * <p>
+ * A clock decides how far each step of a game goes, so the same driver can update a game with the fixed time step of
+ * the game thread, or jump straight from one event of the game to the next.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+public interface GameClock {
+
+    /**
+     * Gets the game time that has passed since the clock was created.
+     *
+     * @return the game time passed, in seconds.
+     */
+    double getTime();
+
+    /**
+     * Updates the game by one step of the clock.
+     */
+    void step();
+}
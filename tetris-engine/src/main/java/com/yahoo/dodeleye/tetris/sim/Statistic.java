@@ -0,0 +1,134 @@
+package com.yahoo.dodeleye.tetris.sim;
+
+/**
+ * Accumulates summary statistics of a set of values: their count, mean, standard deviation, minimum and maximum.
+ * <p>
+ * Only running totals are kept, not the values themselves, so any number of values can be added. Statistics built
+ * up separately (such as on different threads) can be combined afterwards.
+ * </p>
+ * <p>
+ * The spread is kept as the sum of squared differences from the mean, updated with Welford's method as each value is
+ * added and with Chan's method when statistics are combined. Unlike a sum of squares, it does not lose its precision
+ * to cancellation over millions of values.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+public final class Statistic {
+
+    /**
+     * The number of values added.
+     */
+    private long count = 0;
+
+    /**
+     * The mean of the values.
+     */
+    private double mean = 0;
+
+    /**
+     * The sum of the squared differences of the values from their mean.
+     */
+    private double squaredDeviations = 0;
+
+    /**
+     * The lowest and highest values added.
+     */
+    private double min = Double.POSITIVE_INFINITY, max = Double.NEGATIVE_INFINITY;
+
+    /**
+     * Adds a value.
+     *
+     * @param value the value to add.
+     */
+    public void add(double value) {
+
+        count += 1;
+
+        // Move the mean towards the value, then add the value's deviation from both the old and new means.
+        double delta = value - mean;
+        mean += delta / count;
+        squaredDeviations += delta * (value - mean);
+
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    /**
+     * Adds every value of another statistic to this one.
+     *
+     * @param other the statistic to combine into this one.
+     */
+    public void combine(Statistic other) {
+
+        if (other.count == 0)
+            return;
+
+        long total = count + other.count;
+
+        // Weight the difference between the means by the share of values on each side.
+        double delta = other.mean - mean;
+        mean += delta * other.count / total;
+        squaredDeviations += other.squaredDeviations + delta * delta * ((double) count * other.count / total);
+
+        count = total;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * Gets the number of values added.
+     *
+     * @return the number of values.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the mean of the values.
+     *
+     * @return the mean, or 0 if there are no values.
+     */
+    public double getMean() {
+
+        return mean;
+    }
+
+    /**
+     * Gets the (population) standard deviation of the values.
+     *
+     * @return the standard deviation, or 0 if there are no values.
+     */
+    public double getStandardDeviation() {
+
+        return count == 0 ? 0 : Math.sqrt(squaredDeviations / count);
+    }
+
+    /**
+     * Gets the lowest value added.
+     *
+     * @return the minimum, or 0 if there are no values.
+     */
+    public double getMin() {
+
+        return count == 0 ? 0 : min;
+    }
+
+    /**
+     * Gets the highest value added.
+     *
+     * @return the maximum, or 0 if there are no values.
+     */
+    public double getMax() {
+
+        return count == 0 ? 0 : max;
+    }
+
+    @Override
+    public String toString() {
+
+        return String.format("mean %.2f, sd %.2f, min %.2f, max %.2f",
+                getMean(), getStandardDeviation(), getMin(), getMax());
+    }
+}
@@ -0,0 +1,71 @@
+package com.yahoo.dodeleye.tetris.sim;
+
+import com.yahoo.dodeleye.tetris.model.GameLogic;
+
+/**
+ * A clock that moves a game straight to its next event on every step.
+ * <p>
+ * Nothing changes in a game between its events unless there is an input, so the time in between is skipped over in a
+ * single update. Playing a game this way costs one update for each event (a row fallen, a piece locked or spawned, a
+ * column of a line clear emptied), rather than one for every hundredth of a second.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+public final class VirtualClock implements GameClock {
+
+    /**
+     * The game the clock updates.
+     */
+    private final GameLogic game;
+
+    /**
+     * The game time passed, in nanoseconds.
+     */
+    private long time;
+
+    /**
+     * The number of steps taken so far.
+     */
+    private long steps;
+
+    /**
+     * Creates a clock.
+     *
+     * @param game the game to update.
+     */
+    public VirtualClock(GameLogic game) {
+
+        this.game = game;
+    }
+
+    @Override
+    public double getTime() {
+
+        return time / 1e9;
+    }
+
+    /**
+     * Gets the number of steps taken so far, which is the number of updates the game has needed.
+     *
+     * @return the number of steps.
+     */
+    public long getSteps() {
+
+        return steps;
+    }
+
+    @Override
+    public void step() {
+
+        long delay = game.getTimeToNextEvent();
+
+        // There is nothing left to wait for once the game has ended.
+        if (delay == Long.MAX_VALUE)
+            return;
+
+        game.updateNanos(delay);
+        time += delay;
+        steps += 1;
+    }
+}